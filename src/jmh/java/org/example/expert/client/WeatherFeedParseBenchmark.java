@@ -0,0 +1,79 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.dto.WeatherDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 WeatherDto[] 역직렬화 + 선형 탐색 방식과 JsonParser 스트리밍 방식의 파싱 비용을 비교한다.
+ * 할당량은 -prof gc 옵션으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeatherFeedParseBenchmark {
+
+    // 피드에 포함된 날짜 수 (실제 피드는 365~366개)
+    @Param({"366", "3660"})
+    private int entries;
+
+    private byte[] feed;
+    private ObjectMapper objectMapper;
+    private WeatherFeedParser feedParser;
+    private String todayKey;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        feedParser = new WeatherFeedParser();
+        todayKey = "07-01";
+
+        StringBuilder builder = new StringBuilder("[");
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < entries; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"date\":\"").append(date.plusDays(i % 366).format(formatter))
+                    .append("\",\"weather\":\"Sunny and Windy\"}");
+        }
+        feed = builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String dtoArrayScan() throws IOException {
+        WeatherDto[] weatherArray = objectMapper.readValue(feed, WeatherDto[].class);
+        for (WeatherDto weatherDto : weatherArray) {
+            if (todayKey.equals(weatherDto.getDate())) {
+                return weatherDto.getWeather();
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public WeatherIndex streamingIndex() throws IOException {
+        return feedParser.parseIndex(new ByteArrayInputStream(feed));
+    }
+
+    @Benchmark
+    public String streamingFindEarlyStop() throws IOException {
+        return feedParser.findWeather(new ByteArrayInputStream(feed), 7, 1);
+    }
+}
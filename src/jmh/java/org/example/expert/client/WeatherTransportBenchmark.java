@@ -0,0 +1,85 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 stub 서버를 대상으로 전송 계층별 날씨 API 호출 1회의 지연 시간을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeatherTransportBenchmark {
+
+    @Param({"SIMPLE", "JDK", "APACHE"})
+    private WeatherHttpTransport.Type transportType;
+
+    private HttpServer stubServer;
+    private WeatherClient weatherClient;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Nagle 알고리즘과 delayed ACK 이 겹쳐 응답마다 40ms 씩 지연되는 것을 방지
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        byte[] body = createFeed().getBytes(StandardCharsets.UTF_8);
+
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.setExecutor(Executors.newFixedThreadPool(4));
+        stubServer.createContext("/f-api/weather.json", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        stubServer.start();
+
+        WeatherProperties weatherProperties = new WeatherProperties();
+        weatherProperties.setBaseUrl("http://localhost:" + stubServer.getAddress().getPort());
+        weatherProperties.getTransport().setType(transportType);
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), weatherProperties, new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        weatherClient.close();
+        stubServer.stop(0);
+    }
+
+    @Benchmark
+    public WeatherSnapshot refresh() {
+        return weatherClient.refresh();
+    }
+
+    private static String createFeed() {
+        StringBuilder feed = new StringBuilder("[");
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        for (int i = 0; i < 366; i++) {
+            if (i > 0) {
+                feed.append(',');
+            }
+            feed.append("{\"date\":\"").append(date.plusDays(i).format(formatter)).append("\",\"weather\":\"Sunny\"}");
+        }
+        return feed.append(']').toString();
+    }
+}
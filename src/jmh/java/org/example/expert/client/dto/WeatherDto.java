@@ -0,0 +1,24 @@
+package org.example.expert.client.dto;
+
+/**
+ * 스트리밍 파서로 바꾸기 전의 응답 DTO, WeatherFeedParseBenchmark 의 비교 기준으로만 사용한다.
+ * (jmh 소스에는 lombok 이 없으므로 getter 를 직접 작성)
+ */
+public class WeatherDto {
+
+    private final String date;
+    private final String weather;
+
+    public WeatherDto(String date, String weather) {
+        this.date = date;
+        this.weather = weather;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public String getWeather() {
+        return weather;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtFilter 가 토큰을 해석하는 비용을 비교한다.
+ * - parserPerRequest: 기존 방식, 요청마다 parser 를 만들어 서명 검증과 claims 파싱
+ * - sharedParser: parser 를 한 번만 만들어 공유
+ * - verifiedTokenCache: 이미 검증한 토큰을 digest 로 찾아 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthBenchmark {
+
+    private Key key;
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        String secretKey = Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", secretKey);
+        jwtUtil.init();
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "user1@example.com", UserRole.USER));
+
+        verifiedTokenCache = new VerifiedTokenCache(10_000, new SimpleMeterRegistry());
+        verifiedTokenCache.put(token, VerifiedToken.from(jwtUtil.extractClaims(token)));
+    }
+
+    @Benchmark
+    public VerifiedToken parserPerRequest() {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return VerifiedToken.from(claims);
+    }
+
+    @Benchmark
+    public VerifiedToken sharedParser() {
+        return VerifiedToken.from(jwtUtil.extractClaims(token));
+    }
+
+    @Benchmark
+    public VerifiedToken verifiedTokenCache() {
+        return verifiedTokenCache.get(token);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.expert.domain;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 트랜잭션에서 여러 건을 저장할 때의 초당 insert 수.
+ * 일정은 저장 시 작성자가 담당자로 함께 저장되므로 일정 1건 = insert 2건이다.
+ * 결과는 @OperationsPerInvocation 으로 엔티티 1건 기준 (ops/s = 초당 저장 건수).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InsertBatchBenchmark {
+
+    private static final int BATCH = 100;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private TodoRepository todoRepository;
+    private UserRepository userRepository;
+    private User owner;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString(new byte[32]),
+                        "spring.datasource.url=jdbc:h2:mem:insert-batch-benchmark",
+                        "logging.level.root=WARN"
+                )
+                .run();
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        todoRepository = context.getBean(TodoRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        owner = userRepository.save(new User("owner@example.com", "$2a$10$" + "x".repeat(53), UserRole.USER));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<Todo> saveTodos() {
+        List<Todo> todos = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            todos.add(new Todo("title" + i, "contents " + i, "Sunny", owner));
+        }
+        return transactionTemplate.execute(status -> todoRepository.saveAll(todos));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<User> saveUsers() {
+        List<User> users = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            users.add(new User("user" + sequence.incrementAndGet() + "@example.com", "$2a$10$" + "x".repeat(53), UserRole.USER));
+        }
+        return transactionTemplate.execute(status -> userRepository.saveAll(users));
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.expert.domain;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 조회 API 의 엔티티 조회 + DTO 변환 방식과 JPQL 생성자 표현식으로 DTO 를 바로 조회하는 방식을 비교한다.
+ * 서비스와 같이 readOnly 트랜잭션 안에서 H2 in-memory DB 를 조회한다.
+ * 할당량은 -Pjmh.profilers=gc 로 실행하여 gc.alloc.rate.norm 을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadProjectionBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private EntityManager entityManager;
+    private TodoRepository todoRepository;
+    private CommentRepository commentRepository;
+    private ManagerRepository managerRepository;
+    private long todoId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString(new byte[32]),
+                        "spring.datasource.url=jdbc:h2:mem:read-projection-benchmark",
+                        "logging.level.root=WARN"
+                )
+                .run();
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        entityManager = context.getBean(EntityManager.class);
+        todoRepository = context.getBean(TodoRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        managerRepository = context.getBean(ManagerRepository.class);
+
+        // 일정 200개, 그 중 하나에 댓글 50개와 담당자 20명
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<User> users = userRepository.saveAll(IntStream.range(0, PAGE_SIZE)
+                    .mapToObj(i -> new User("user" + i + "@example.com", "$2a$10$" + "x".repeat(53), UserRole.USER))
+                    .toList());
+            Todo target = null;
+            for (int i = 0; i < 200; i++) {
+                target = todoRepository.save(new Todo("title" + i, "contents " + i, "Sunny", users.get(0)));
+            }
+            for (int i = 0; i < 50; i++) {
+                commentRepository.save(new Comment("comment " + i, users.get(i % users.size()), target));
+            }
+            for (int i = 1; i < users.size(); i++) {
+                managerRepository.save(new Manager(users.get(i), target));
+            }
+            todoId = target.getId();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TodoResponse> todoPageEntity() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.modifiedAt DESC, t.id DESC", Todo.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultStream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        todo.getWeatherStatus(),
+                        todo.getPlannedDate(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<TodoResponse> todoPageProjection() {
+        return readOnlyTransaction.execute(status -> todoRepository.findFirstPage(Limit.of(PAGE_SIZE)));
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentsEntity() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId", Comment.class)
+                .setParameter("todoId", todoId)
+                .getResultStream()
+                .map(comment -> new CommentResponse(
+                        comment.getId(),
+                        comment.getContents(),
+                        new UserResponse(comment.getUser().getId(), comment.getUser().getEmail())
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentsProjection() {
+        return readOnlyTransaction.execute(status -> commentRepository.findResponsesByTodoId(todoId));
+    }
+
+    @Benchmark
+    public List<ManagerResponse> managersEntity() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId", Manager.class)
+                .setParameter("todoId", todoId)
+                .getResultStream()
+                .map(manager -> new ManagerResponse(
+                        manager.getId(),
+                        new UserResponse(manager.getUser().getId(), manager.getUser().getEmail())
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<ManagerResponse> managersProjection() {
+        return readOnlyTransaction.execute(status -> managerRepository.findResponsesByTodoId(todoId));
+    }
+}
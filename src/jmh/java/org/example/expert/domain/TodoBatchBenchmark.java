@@ -0,0 +1,102 @@
+package org.example.expert.domain;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoBatchService;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정을 POST /todos 로 한 건씩 저장할 때와 POST /todos/batch 로 한 번에 저장할 때의 초당 저장 건수 (서비스 계층 기준).
+ * 날씨는 스냅샷 캐시에서 조회되므로 비교에서 빼기 위해 deferred 모드로 실행한다.
+ * 결과는 @OperationsPerInvocation 으로 일정 1건 기준 (ops/s = 초당 저장 건수).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TodoBatchBenchmark {
+
+    private static final int BATCH = 500;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private TodoBatchService todoBatchService;
+    private AuthUser authUser;
+    private List<TodoSaveRequest> requests;
+    private byte[] ndjson;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString(new byte[32]),
+                        "spring.datasource.url=jdbc:h2:mem:todo-batch-benchmark",
+                        "todo.weather.mode=deferred",
+                        "logging.level.root=WARN"
+                )
+                .run();
+
+        todoService = context.getBean(TodoService.class);
+        todoBatchService = context.getBean(TodoBatchService.class);
+        User user = context.getBean(UserRepository.class)
+                .save(new User("owner@example.com", "$2a$10$" + "x".repeat(53), UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+
+        requests = new ArrayList<>(BATCH);
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < BATCH; i++) {
+            requests.add(new TodoSaveRequest("title" + i, "contents " + i));
+            body.append("{\"title\":\"title").append(i).append("\",\"contents\":\"contents ").append(i).append("\"}\n");
+        }
+        ndjson = body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<TodoSaveResponse> saveOneByOne() {
+        List<TodoSaveResponse> responses = new ArrayList<>(BATCH);
+        for (TodoSaveRequest request : requests) {
+            responses.add(todoService.saveTodo(authUser, request));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long saveBatch() throws IOException {
+        return todoBatchService.saveTodos(authUser, new ByteArrayInputStream(ndjson), MediaType.APPLICATION_NDJSON,
+                OutputStream.nullOutputStream());
+    }
+}
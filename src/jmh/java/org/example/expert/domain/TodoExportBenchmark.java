@@ -0,0 +1,101 @@
+package org.example.expert.domain;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 100만 건 전체 내보내기.
+ * 행을 모아 두지 않고 흘려보내는지 확인하기 위해 힙을 128MB 로 제한해서 실행하고 (100만 건을 모으면 수백 MB),
+ * 반복마다 마지막 GC 직후의 힙 사용량(살아 있는 객체)을 출력한다.
+ * DB 가 힙을 차지하지 않도록 H2 파일 DB 를 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(jvmArgsAppend = "-Xmx128m")
+public class TodoExportBenchmark {
+
+    @Param("1000000")
+    private int rows;
+
+    @Param({"NDJSON", "CSV"})
+    private TodoExportFormat format;
+
+    private Path dataDir;
+    private ConfigurableApplicationContext context;
+    private TodoExportService todoExportService;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("todo-export-benchmark");
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "jwt.secret.key=" + Base64.getEncoder().encodeToString(new byte[32]),
+                        "spring.datasource.url=jdbc:h2:file:" + dataDir.resolve("db") + ";CACHE_SIZE=8192;LAZY_QUERY_EXECUTION=TRUE",
+                        // 파일 DB 는 내장 DB 로 취급되지 않아 스키마를 자동으로 만들지 않음
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "logging.level.root=WARN"
+                )
+                .run();
+
+        todoExportService = context.getBean(TodoExportService.class);
+        User user = context.getBean(UserRepository.class)
+                .save(new User("owner@example.com", "$2a$10$" + "x".repeat(53), UserRole.USER));
+        context.getBean(JdbcTemplate.class).update(
+                "INSERT INTO todos (id, title, contents, weather, weather_status, user_id, created_at, modified_at) " +
+                        "SELECT X, 'title ' || X, 'contents, \"quoted\" ' || X, 'Sunny', 'RESOLVED', ?, NOW(), NOW() " +
+                        "FROM SYSTEM_RANGE(1, ?)",
+                user.getId(), rows);
+    }
+
+    @TearDown(Level.Iteration)
+    public void printHeapAfterGc() {
+        long used = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null)
+                .mapToLong(pool -> pool.getCollectionUsage().getUsed())
+                .sum();
+        System.out.printf(" [heap after last GC %d MB]", used / (1024 * 1024));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        try (var files = Files.walk(dataDir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        return todoExportService.export(format, OutputStream.nullOutputStream());
+    }
+}
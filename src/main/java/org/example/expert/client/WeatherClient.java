@@ -1,63 +1,335 @@
 package org.example.expert.client;
 
-import org.example.expert.client.dto.WeatherDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
+    // 외부 API 와 마지막으로 알려진 날씨 모두 사용할 수 없을 때 내려주는 값
+    public static final String UNKNOWN_WEATHER = "Unknown";
+
+    private final WeatherHttpTransport transport;
     private final RestTemplate restTemplate;
+    private final WeatherFeedParser feedParser = new WeatherFeedParser();
+    private final WeatherProperties weatherProperties;
+    private final WeatherCircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    // 같은 날짜에 대한 동시 갱신 요청을 하나의 외부 API 호출로 합침
+    private final SingleFlight<LocalDate, WeatherSnapshot> refreshFlight = new SingleFlight<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter refreshSuccessCounter;
+    private final Counter refreshFailureCounter;
+    private final Counter notModifiedCounter;
+    private final Counter circuitOpenRejectionCounter;
+    private final Counter bulkheadRejectionCounter;
+    private final Counter fallbackCounter;
+
+    // 스케줄러와 요청 스레드가 함께 읽고 쓰므로 volatile 로 선언
+    private volatile WeatherSnapshot snapshot;
+    private volatile String lastKnownWeather;
+
+    public WeatherClient(RestTemplateBuilder builder, WeatherProperties weatherProperties, MeterRegistry meterRegistry) {
+        // 타임아웃은 전송 계층에서 직접 설정
+        this.transport = WeatherHttpTransport.create(weatherProperties, meterRegistry);
+        this.restTemplate = builder
+                .requestFactory(transport::getRequestFactory)
+                .build();
+        this.weatherProperties = weatherProperties;
+        this.circuitBreaker = new WeatherCircuitBreaker(
+                weatherProperties.getCircuitBreaker().getFailureThreshold(),
+                weatherProperties.getCircuitBreaker().getOpenDuration()
+        );
+        this.bulkhead = new Semaphore(weatherProperties.getBulkhead().getMaxConcurrentCalls());
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+        this.hitCounter = meterRegistry.counter("weather.snapshot.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("weather.snapshot.requests", "result", "miss");
+        this.refreshSuccessCounter = meterRegistry.counter("weather.snapshot.refreshes", "outcome", "success");
+        this.refreshFailureCounter = meterRegistry.counter("weather.snapshot.refreshes", "outcome", "failure");
+        // 성공한 갱신 중 304 응답으로 기존 인덱스를 재사용한 횟수
+        this.notModifiedCounter = meterRegistry.counter("weather.snapshot.not_modified");
+        this.circuitOpenRejectionCounter = meterRegistry.counter("weather.upstream.rejections", "reason", "circuit_open");
+        this.bulkheadRejectionCounter = meterRegistry.counter("weather.upstream.rejections", "reason", "bulkhead_full");
+        this.fallbackCounter = meterRegistry.counter("weather.fallbacks");
+        FunctionCounter.builder("weather.snapshot.coalesced", refreshFlight, SingleFlight::getCoalescedCount)
+                .description("진행 중인 갱신에 합류하여 외부 API 를 호출하지 않은 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("weather.snapshot.age", this, WeatherClient::getSnapshotAgeSeconds)
+                .description("마지막으로 날씨 스냅샷을 갱신한 이후 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("weather.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .register(meterRegistry);
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        LocalDate today = LocalDate.now();
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
+        // 오늘 날짜로 유효한 스냅샷이 있으면 네트워크 호출 없이 바로 응답
+        WeatherSnapshot current = snapshot;
+        if (current != null && current.isValidFor(today)) {
+            hitCounter.increment();
+            String weather = current.findWeather(today);
+            // 날씨 데이터에 오늘 날짜(예: 2월 29일)가 없으면 다시 받아도 없으므로 대체 값으로 응답
+            return weather != null ? rememberWeather(weather) : getFallbackWeather(today);
+        }
 
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+        missCounter.increment();
+        try {
+            return rememberWeather(getWeatherFrom(refreshIfInvalid(today), today));
+        } catch (RuntimeException e) {
+            // 날씨 API 장애가 일정 저장 실패로 번지지 않도록 대체 값으로 응답
+            log.warn("날씨 데이터를 가져오지 못해 대체 값을 사용합니다: {}", e.getMessage());
+            return getFallbackWeather(today);
         }
+    }
+
+    /**
+     * 지정한 날짜의 날씨를 조회한다.
+     * getTodayWeather() 와 달리 대체 값을 사용하지 않고, 날씨를 알 수 없으면 예외를 던진다.
+     */
+    public String getWeather(LocalDate date) {
+        return getWeatherFrom(getSnapshot(), date);
+    }
+
+    /**
+     * 지정한 날짜의 날씨를 조회한다. 날씨 데이터에 해당 날짜(월/일)가 없으면 null 을 반환한다.
+     * 날씨 데이터 자체를 가져오지 못하면 예외를 던지므로, 다시 시도해도 알 수 없는 날짜와 일시적인 장애를 구분할 수 있다.
+     */
+    public String findWeather(LocalDate date) {
+        return getSnapshot().findWeather(date);
+    }
+
+    private WeatherSnapshot getSnapshot() {
+        LocalDate today = LocalDate.now();
+
+        WeatherSnapshot current = snapshot;
+        if (current != null && current.isValidFor(today)) {
+            hitCounter.increment();
+            return current;
+        }
+
+        missCounter.increment();
+        return refreshIfInvalid(today);
+    }
 
-        if (weatherArray == null || weatherArray.length == 0) {
+    /**
+     * 외부 API 에서 날씨 데이터 전체를 내려받아 스냅샷을 교체한다.
+     * 동시 호출 수는 bulkhead 로, 연속 실패 시 호출 여부는 circuit breaker 로 제한한다.
+     */
+    public WeatherSnapshot refresh() {
+        if (!tryAcquireBulkhead()) {
+            bulkheadRejectionCounter.increment();
+            throw new ServerException("동시에 처리할 수 있는 날씨 API 호출 수를 초과했습니다.");
+        }
+
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                circuitOpenRejectionCounter.increment();
+                throw new ServerException("날씨 API 회로가 열려 있어 호출하지 않습니다.");
+            }
+
+            try {
+                WeatherSnapshot fetched = fetchSnapshot();
+                circuitBreaker.onSuccess();
+                snapshot = fetched;
+                refreshSuccessCounter.increment();
+                return fetched;
+            } catch (RuntimeException e) {
+                circuitBreaker.onFailure();
+                refreshFailureCounter.increment();
+                if (e instanceof ServerException) {
+                    throw e;
+                }
+                // HTTP 오류, 타임아웃(RestClientException)도 호출하는 쪽에서 일시적인 장애로 구분할 수 있도록 ServerException 으로 바꿈
+                throw new ServerException("날씨 API 호출에 실패했습니다: " + e.getMessage());
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * 동시에 스냅샷이 없다는 것을 발견한 요청들은 하나의 갱신 결과를 함께 사용한다.
+     * leader 가 실행되기 직전에 다른 갱신이 끝났을 수 있으므로 한 번 더 확인한다.
+     */
+    private WeatherSnapshot refreshIfInvalid(LocalDate today) {
+        return refreshFlight.execute(today, () -> {
+            WeatherSnapshot latest = snapshot;
+            if (latest != null && latest.isValidFor(today)) {
+                return latest;
+            }
+            return refresh();
+        });
+    }
+
+    public WeatherCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @PreDestroy
+    public void close() {
+        transport.close();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshOnStartup() {
+        refreshQuietly("startup");
+    }
+
+    // 자정이 지나면 스냅샷이 더 이상 유효하지 않으므로 바로 갱신
+    @Scheduled(cron = "0 0 0 * * *")
+    public void refreshOnMidnight() {
+        refreshQuietly("midnight");
+    }
+
+    @Scheduled(fixedDelayString = "${weather.refresh-interval:PT30M}", initialDelayString = "${weather.refresh-interval:PT30M}")
+    public void refreshPeriodically() {
+        refreshQuietly("interval");
+    }
+
+    private void refreshQuietly(String trigger) {
+        try {
+            // 스케줄 갱신과 요청 스레드의 갱신이 겹치면 하나의 호출로 합침
+            refreshFlight.execute(LocalDate.now(), this::refresh);
+        } catch (RuntimeException e) {
+            // 갱신에 실패해도 기존 스냅샷은 유지
+            log.warn("날씨 스냅샷 갱신 실패 (trigger: {}): {}", trigger, e.getMessage());
+        }
+    }
+
+    private boolean tryAcquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(weatherProperties.getBulkhead().getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 이전 스냅샷의 ETag, Last-Modified 로 조건부 요청을 보낸다.
+     * 304 응답이면 본문을 내려받거나 파싱하지 않고 이전 인덱스를 재사용한다.
+     */
+    private WeatherSnapshot fetchSnapshot() {
+        WeatherSnapshot previous = snapshot;
+        boolean conditional = previous != null && previous.hasValidators();
+
+        WeatherSnapshot fetched = restTemplate.execute(
+                buildWeatherApiUri(),
+                HttpMethod.GET,
+                request -> {
+                    HttpHeaders headers = request.getHeaders();
+                    headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+                    if (conditional) {
+                        if (previous.getEtag() != null) {
+                            headers.setIfNoneMatch(previous.getEtag());
+                        }
+                        if (previous.getLastModified() >= 0) {
+                            headers.setIfModifiedSince(previous.getLastModified());
+                        }
+                    }
+                },
+                response -> {
+                    if (conditional && HttpStatus.NOT_MODIFIED.equals(response.getStatusCode())) {
+                        notModifiedCounter.increment();
+                        return previous.revalidate(LocalDate.now(), Instant.now());
+                    }
+                    if (!HttpStatus.OK.equals(response.getStatusCode())) {
+                        throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.getStatusCode());
+                    }
+                    // 응답 본문을 DTO 배열로 만들지 않고 스트리밍으로 바로 인덱싱
+                    WeatherIndex index = feedParser.parseIndex(response.getBody());
+                    if (index == null || index.isEmpty()) {
+                        throw new ServerException("날씨 데이터가 없습니다.");
+                    }
+
+                    HttpHeaders headers = response.getHeaders();
+                    return new WeatherSnapshot(LocalDate.now(), index, Instant.now(), headers.getETag(), headers.getLastModified());
+                }
+        );
+
+        if (fetched == null) {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
+        return fetched;
+    }
+
+    private String getWeatherFrom(WeatherSnapshot weatherSnapshot, LocalDate date) {
+        String weather = weatherSnapshot.findWeather(date);
+        if (weather == null) {
+            throw new ServerException(date + " 에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    /**
+     * 1. 날짜가 지난 스냅샷이라도 오늘 날씨가 들어 있다면 그 값을 사용
+     * 2. 마지막으로 응답한 날씨 값을 사용
+     * 3. 둘 다 없다면 UNKNOWN_WEATHER
+     */
+    private String getFallbackWeather(LocalDate date) {
+        fallbackCounter.increment();
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+        WeatherSnapshot current = snapshot;
+        if (current != null) {
+            String weather = current.findWeather(date);
+            if (weather != null) {
+                return weather;
             }
         }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        String lastKnown = lastKnownWeather;
+        return lastKnown != null ? lastKnown : UNKNOWN_WEATHER;
+    }
+
+    private String rememberWeather(String weather) {
+        lastKnownWeather = weather;
+        return weather;
+    }
+
+    private double getSnapshotAgeSeconds() {
+        WeatherSnapshot current = snapshot;
+        if (current == null) {
+            return Double.NaN;
+        }
+        return current.getAge(Instant.now()).toMillis() / 1000.0;
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
+                .fromUriString(weatherProperties.getBaseUrl())
+                .path(weatherProperties.getPath())
                 .encode()
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
 }
@@ -0,0 +1,144 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 날씨 피드([{"date": "MM-dd", "weather": "..."}, ...])를 JsonParser 로 한 번만 훑으면서 처리한다.
+ * 항목마다 DTO 를 만들지 않고, date 는 문자열로 만들지 않은 채 문자 배열에서 바로 월/일을 읽는다.
+ */
+public class WeatherFeedParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String DATE_FIELD = "date";
+    private static final String WEATHER_FIELD = "weather";
+
+    /**
+     * 피드 전체를 읽어 day-of-year 인덱스를 만든다.
+     */
+    public WeatherIndex parseIndex(InputStream inputStream) throws IOException {
+        String[] weatherByDay = new String[WeatherIndex.SLOTS];
+
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            expectArrayStart(parser);
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                int slot = -1;
+                String weather = null;
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.currentName();
+                    parser.nextToken();
+
+                    if (DATE_FIELD.equals(fieldName)) {
+                        slot = readSlot(parser);
+                    } else if (WEATHER_FIELD.equals(fieldName)) {
+                        weather = readText(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+
+                if (slot >= 0 && weather != null) {
+                    weatherByDay[slot] = weather;
+                }
+            }
+        }
+
+        return new WeatherIndex(weatherByDay);
+    }
+
+    /**
+     * 특정 날짜의 날씨만 필요한 경우, 해당 항목을 찾는 즉시 나머지 피드를 읽지 않고 반환한다.
+     *
+     * @return 해당 날짜의 날씨, 피드에 없으면 null
+     */
+    public String findWeather(InputStream inputStream, int month, int day) throws IOException {
+        int targetSlot = WeatherIndex.slotOf(month, day);
+        if (targetSlot < 0) {
+            return null;
+        }
+
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            expectArrayStart(parser);
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                int slot = -1;
+                String weather = null;
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String fieldName = parser.currentName();
+                    parser.nextToken();
+
+                    if (DATE_FIELD.equals(fieldName)) {
+                        slot = readSlot(parser);
+                    } else if (WEATHER_FIELD.equals(fieldName) && (slot < 0 || slot == targetSlot)) {
+                        // date 가 먼저 나왔고 일치하지 않는다면 문자열을 만들지 않고 아래에서 건너뜀
+                        weather = readText(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+
+                    if (slot == targetSlot && weather != null) {
+                        return weather;
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private void expectArrayStart(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * "MM-dd" 형식의 값을 문자열 생성 없이 슬롯 번호로 변환한다.
+     */
+    private int readSlot(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING || parser.getTextLength() != 5) {
+            // 객체나 배열이면 안쪽 필드를 바깥 항목의 필드로 읽지 않도록 끝까지 건너뜀 (단일 값이면 아무것도 하지 않음)
+            parser.skipChildren();
+            return -1;
+        }
+
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        if (chars[offset + 2] != '-') {
+            return -1;
+        }
+
+        int month = twoDigits(chars, offset);
+        int day = twoDigits(chars, offset + 3);
+        return month < 0 || day < 0 ? -1 : WeatherIndex.slotOf(month, day);
+    }
+
+    /**
+     * 단일 값이면 문자열로, 객체나 배열이면 끝까지 건너뛰고 null 을 반환한다.
+     */
+    private String readText(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+        private int twoDigits(char[] chars, int offset) {
+        int tens = chars[offset] - '0';
+        int ones = chars[offset + 1] - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+}
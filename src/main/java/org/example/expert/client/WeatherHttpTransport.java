@@ -0,0 +1,131 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * WeatherClient 가 사용하는 HTTP 전송 계층.
+ * <ul>
+ *     <li>SIMPLE: HttpURLConnection 기반 (커넥션 풀 없음)</li>
+ *     <li>JDK: java.net.http.HttpClient 기반 (keep-alive, 서버가 지원하면 HTTP/2)</li>
+ *     <li>APACHE: Apache HttpClient 5 커넥션 풀 기반 (keep-alive, 풀 통계 제공)</li>
+ * </ul>
+ */
+@Slf4j
+public class WeatherHttpTransport implements AutoCloseable {
+
+    public enum Type {
+        SIMPLE, JDK, APACHE
+    }
+
+    @Getter
+    private final Type type;
+    @Getter
+    private final ClientHttpRequestFactory requestFactory;
+    private final AutoCloseable resource;
+
+    private WeatherHttpTransport(Type type, ClientHttpRequestFactory requestFactory, AutoCloseable resource) {
+        this.type = type;
+        this.requestFactory = requestFactory;
+        this.resource = resource;
+    }
+
+    public static WeatherHttpTransport create(WeatherProperties weatherProperties, MeterRegistry meterRegistry) {
+        Type type = weatherProperties.getTransport().getType();
+        return switch (type) {
+            case SIMPLE -> createSimple(weatherProperties);
+            case JDK -> createJdk(weatherProperties);
+            case APACHE -> createApache(weatherProperties, meterRegistry);
+        };
+    }
+
+    private static WeatherHttpTransport createSimple(WeatherProperties weatherProperties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(weatherProperties.getConnectTimeout());
+        requestFactory.setReadTimeout(weatherProperties.getReadTimeout());
+        return new WeatherHttpTransport(Type.SIMPLE, requestFactory, null);
+    }
+
+    private static WeatherHttpTransport createJdk(WeatherProperties weatherProperties) {
+        // HttpClient 는 내부적으로 커넥션을 재사용하며, ALPN 으로 협상되면 HTTP/2 를 사용
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(weatherProperties.getConnectTimeout())
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(weatherProperties.getReadTimeout());
+        return new WeatherHttpTransport(Type.JDK, requestFactory, null);
+    }
+
+    private static WeatherHttpTransport createApache(WeatherProperties weatherProperties, MeterRegistry meterRegistry) {
+        WeatherProperties.Transport transport = weatherProperties.getTransport();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(transport.getMaxConnections())
+                .setMaxConnPerRoute(transport.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(weatherProperties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(weatherProperties.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(transport.getConnectionTimeToLive()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(weatherProperties.getConnectTimeout()))
+                        .setResponseTimeout(Timeout.of(weatherProperties.getReadTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.of(transport.getIdleTimeout()))
+                .evictExpiredConnections()
+                .build();
+
+        registerPoolGauge(meterRegistry, connectionManager, "leased", PoolStats::getLeased);
+        registerPoolGauge(meterRegistry, connectionManager, "available", PoolStats::getAvailable);
+        registerPoolGauge(meterRegistry, connectionManager, "pending", PoolStats::getPending);
+        registerPoolGauge(meterRegistry, connectionManager, "max", PoolStats::getMax);
+
+        return new WeatherHttpTransport(Type.APACHE, new HttpComponentsClientHttpRequestFactory(httpClient), httpClient);
+    }
+
+    private static void registerPoolGauge(MeterRegistry meterRegistry,
+                                          PoolingHttpClientConnectionManager connectionManager,
+                                          String state,
+                                          ToDoubleFunction<PoolStats> statsFunction) {
+        Gauge.builder("weather.http.pool.connections", connectionManager,
+                        manager -> statsFunction.applyAsDouble(manager.getTotalStats()))
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void close() {
+        if (resource == null) {
+            return;
+        }
+        try {
+            resource.close();
+        } catch (Exception e) {
+            log.warn("날씨 API HTTP 클라이언트 종료 실패: {}", e.getMessage());
+        }
+    }
+}
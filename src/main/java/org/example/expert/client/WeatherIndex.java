@@ -0,0 +1,58 @@
+package org.example.expert.client;
+
+import java.time.LocalDate;
+
+/**
+ * 날씨 데이터를 day-of-year(윤년 기준 366칸) 배열로 보관한다.
+ * 조회 시 날짜 문자열을 만들지 않고 월/일 값만으로 O(1)에 찾는다.
+ */
+public class WeatherIndex {
+
+    static final int SLOTS = 366;
+
+    // 윤년 기준으로 각 월 1일의 0-based day-of-year
+    private static final int[] MONTH_OFFSETS = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+    private static final int[] MONTH_LENGTHS = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private final String[] weatherByDay;
+    private final int size;
+
+    WeatherIndex(String[] weatherByDay) {
+        this.weatherByDay = weatherByDay;
+
+        int count = 0;
+        for (String weather : weatherByDay) {
+            if (weather != null) {
+                count++;
+            }
+        }
+        this.size = count;
+    }
+
+    public String find(LocalDate date) {
+        return find(date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    public String find(int month, int day) {
+        int slot = slotOf(month, day);
+        return slot < 0 ? null : weatherByDay[slot];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return 0 ~ 365 사이의 슬롯 번호, 존재하지 않는 날짜라면 -1
+     */
+    static int slotOf(int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > MONTH_LENGTHS[month - 1]) {
+            return -1;
+        }
+        return MONTH_OFFSETS[month - 1] + day - 1;
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "weather")
+public class WeatherProperties {
+
+    // 날씨 데이터를 제공하는 외부 API 주소
+    private String baseUrl = "https://f-api.github.io";
+    private String path = "/f-api/weather.json";
+
+    // 스냅샷을 주기적으로 갱신하는 간격
+    private Duration refreshInterval = Duration.ofMinutes(30);
+
+    // 외부 API 가 응답하지 않을 때 Tomcat 스레드가 오래 붙잡히지 않도록 제한
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(3);
+
+    private final Transport transport = new Transport();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private final Bulkhead bulkhead = new Bulkhead();
+
+    @Getter
+    @Setter
+    public static class Transport {
+
+        private WeatherHttpTransport.Type type = WeatherHttpTransport.Type.APACHE;
+        // APACHE 전송 계층의 커넥션 풀 크기
+        private int maxConnections = 20;
+        // 유휴 커넥션을 풀에서 정리하기까지의 시간
+        private Duration idleTimeout = Duration.ofSeconds(30);
+        // 커넥션을 재사용할 수 있는 최대 시간
+        private Duration connectionTimeToLive = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        // 연속으로 이 횟수만큼 실패하면 회로를 연다
+        private int failureThreshold = 5;
+        // 회로가 열린 뒤 시험 호출을 허용하기까지 기다리는 시간
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        // 동시에 나갈 수 있는 외부 API 호출 수
+        private int maxConcurrentCalls = 4;
+        // 호출 슬롯을 얻기 위해 기다리는 최대 시간
+        private Duration maxWait = Duration.ofMillis(100);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.expert.client;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 특정 날짜에 내려받은 날씨 데이터 전체를 메모리에 보관한다.
+ * 스냅샷은 내려받은 날짜(day) 기준으로만 유효하며, 날짜가 바뀌면 다시 갱신해야 한다.
+ * 다음 갱신 때 조건부 요청을 보낼 수 있도록 응답의 ETag, Last-Modified 값을 함께 보관한다.
+ */
+@Getter
+public class WeatherSnapshot {
+
+    private final LocalDate day;
+    private final WeatherIndex index;
+    private final Instant fetchedAt;
+    // 응답에 없으면 null
+    private final String etag;
+    // epoch millis, 응답에 없으면 -1
+    private final long lastModified;
+
+    public WeatherSnapshot(LocalDate day, WeatherIndex index, Instant fetchedAt) {
+        this(day, index, fetchedAt, null, -1);
+    }
+
+    public WeatherSnapshot(LocalDate day, WeatherIndex index, Instant fetchedAt, String etag, long lastModified) {
+        this.day = day;
+        this.index = index;
+        this.fetchedAt = fetchedAt;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * 외부 API 가 304 Not Modified 로 응답한 경우, 이미 파싱한 인덱스를 그대로 사용하는 새 스냅샷을 만든다.
+     */
+    public WeatherSnapshot revalidate(LocalDate day, Instant fetchedAt) {
+        return new WeatherSnapshot(day, index, fetchedAt, etag, lastModified);
+    }
+
+    public boolean hasValidators() {
+        return etag != null || lastModified >= 0;
+    }
+
+    public boolean isValidFor(LocalDate date) {
+        return day.equals(date);
+    }
+
+    public String findWeather(LocalDate date) {
+        return index.find(date);
+    }
+
+    public Duration getAge(Instant now) {
+        return Duration.between(fetchedAt, now);
+    }
+}
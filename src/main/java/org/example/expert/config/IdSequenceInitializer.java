@@ -0,0 +1,89 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * id 생성 방식을 IDENTITY 에서 pooled sequence 로 바꾸기 전부터 있던 행과 새 id 가 겹치지 않도록 시퀀스를 기존 id 뒤로 옮긴다.
+ *
+ * ddl-auto 가 새로 만든 시퀀스(MySQL 은 같은 이름의 테이블)는 1 부터 시작하므로, 그대로 두면 AUTO_INCREMENT 로 발급된 id 와 충돌한다.
+ * pooled optimizer 는 시퀀스 값을 블록의 끝으로 보고 (값 - allocationSize + 1) 부터 발급하므로 MAX(id) + allocationSize 까지 올린다.
+ * 이미 그보다 크면 그대로 두므로 매번 실행해도 되고, 웹 서버가 요청을 받기 전(컨텍스트 초기화 중)에 실행된다.
+ *
+ * 배포 순서: 전환 후 첫 배포는 한 대만 먼저 띄워 시퀀스를 옮긴 뒤 나머지를 띄운다.
+ * (여러 대가 동시에 떠도 값을 올리기만 하므로 결과는 같지만, 옮기기 전에 다른 서버가 블록을 받아 가지 않도록 함)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer implements InitializingBean {
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 같아야 함
+    static final int ALLOCATION_SIZE = 50;
+
+    // 테이블 → 시퀀스
+    private static final Map<String, String> SEQUENCES = new LinkedHashMap<>();
+
+    static {
+        SEQUENCES.put("users", "users_seq");
+        SEQUENCES.put("todos", "todos_seq");
+        SEQUENCES.put("comments", "comments_seq");
+        SEQUENCES.put("managers", "managers_seq");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(
+                jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+        alignSequences(product);
+    }
+
+    void alignSequences(String product) {
+        for (Map.Entry<String, String> entry : SEQUENCES.entrySet()) {
+            // 삭제 표시된 일정도 행은 남아 있으므로 JPQL 이 아닌 SQL 로 전체 최대값을 읽음
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + entry.getKey(), Long.class);
+            if (maxId == null) {
+                continue;
+            }
+
+            long target = maxId + ALLOCATION_SIZE;
+            String sequence = entry.getValue();
+            switch (product) {
+                case "MySQL" -> {
+                    // Hibernate 가 시퀀스를 흉내 내는 테이블, next_val 이 다음에 반환할 값
+                    int updated = jdbcTemplate.update(
+                            "UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", target, target);
+                    if (updated > 0) {
+                        log.info("{} 를 기존 id({}) 뒤인 {} 로 옮김", sequence, maxId, target);
+                    }
+                }
+                case "H2" -> {
+                    Long next = jdbcTemplate.queryForObject(
+                            "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?",
+                            Long.class, sequence.toUpperCase());
+                    if (next != null && next < target) {
+                        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + target);
+                        log.info("{} 를 기존 id({}) 뒤인 {} 로 옮김", sequence, maxId, target);
+                    }
+                }
+                default -> log.warn("{} 에서는 {} 를 옮기지 않습니다. 다음 값이 {} 이상인지 직접 확인해주세요.", product, sequence, target);
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
@@ -19,6 +20,8 @@ import java.io.IOException;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -48,18 +51,31 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+            // 이미 검증한 토큰이면 서명 검증과 claims 파싱을 생략
+            VerifiedToken verified = verifiedTokenCache.get(jwt);
+            if (verified == null) {
+                // JWT 유효성 검사와 claims 추출
+                Claims claims = jwtUtil.extractClaims(jwt);
+                // 토큰 무효 여부를 발급 시각으로 판단하므로 iat 가 없는 토큰은 받지 않음 (이 서버가 발급한 토큰에는 항상 있음)
+                if (claims == null || claims.getIssuedAt() == null) {
+                    httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+                    return;
+                }
+                verified = VerifiedToken.from(claims);
+                verifiedTokenCache.put(jwt, verified);
+            }
+
+            // 캐시된 토큰도 비밀번호/권한 변경 이후에는 사용할 수 없도록 매 요청 확인
+            if (tokenRevocationService.isRevoked(verified.getUserId(), verified.getIssuedAt())) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다. 다시 로그인해주세요.");
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            UserRole userRole = UserRole.valueOf(verified.getUserRole());
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            httpRequest.setAttribute("userId", verified.getUserId());
+            httpRequest.setAttribute("email", verified.getEmail());
+            httpRequest.setAttribute("userRole", verified.getUserRole());
 
             if (url.startsWith("/admin")) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
@@ -1,17 +1,214 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * bcrypt 는 CPU 를 많이 쓰므로 Tomcat 요청 스레드가 아닌 CPU 코어 수 크기의 전용 스레드 풀에서 실행한다.
+ * 대기열이 가득 차면 기다리지 않고 503 으로 거절하여, 로그인이 몰려도 다른 요청이 CPU 를 얻을 수 있도록 한다.
+ */
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    // auto 보정 시 올라갈 수 있는 최대 cost
+    static final int MAX_AUTO_COST = 16;
+
+    private final int cost;
+    private final Duration maxWait;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer queueTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectionCounter;
+    private final Counter timeoutCounter;
+
+    public PasswordEncoder(PasswordEncoderProperties properties, MeterRegistry meterRegistry) {
+        this.cost = resolveCost(properties.getBcrypt());
+        this.maxWait = properties.getExecutor().getMaxWait();
+
+        int threads = properties.getExecutor().getThreads() > 0
+                ? properties.getExecutor().getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getExecutor().getQueueCapacity()),
+                new CustomizableThreadFactory("bcrypt-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.queueTimer = Timer.builder("password.hash.queue")
+                .description("bcrypt 작업이 실행되기까지 대기열에서 기다린 시간")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectionCounter = meterRegistry.counter("password.hash.rejections", "reason", "queue_full");
+        this.timeoutCounter = meterRegistry.counter("password.hash.rejections", "reason", "timeout");
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+
+        log.info("bcrypt cost: {}, threads: {}", cost, threads);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return execute(encodeTimer, () -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return execute(matchesTimer, () -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    /**
+     * 대량 가입 등에서 여러 비밀번호를 병렬로 해시한다.
+     * 로그인 요청이 오래 기다리지 않도록 동시에 실행 중인 작업은 스레드 수만큼으로 제한하고,
+     * 대기열이 가득 차면 거절하지 않고 잠시 기다렸다가 다시 넣는다.
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        Semaphore window = new Semaphore(executor.getMaximumPoolSize());
+        List<CompletableFuture<String>> futures = new ArrayList<>(rawPasswords.size());
+
+        for (String rawPassword : rawPasswords) {
+            window.acquireUninterruptibly();
+            CompletableFuture<String> future = submitWithRetry(encodeTimer,
+                    () -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
+            future.whenComplete((hash, e) -> window.release());
+            futures.add(future);
+        }
+
+        List<String> hashes = new ArrayList<>(futures.size());
+        for (CompletableFuture<String> future : futures) {
+            hashes.add(future.join());
+        }
+        return hashes;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Timer hashTimer, Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = submit(hashTimer, task);
+        } catch (RejectedExecutionException e) {
+            rejectionCounter.increment();
+            throw new ServiceUnavailableException("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw new ServiceUnavailableException("비밀번호 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Timer hashTimer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+            long startedAt = System.nanoTime();
+            queueTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                return task.get();
+            } finally {
+                hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }, executor);
+    }
+
+    private <T> CompletableFuture<T> submitWithRetry(Timer hashTimer, Supplier<T> task) {
+        while (true) {
+            try {
+                return submit(hashTimer, task);
+            } catch (RejectedExecutionException e) {
+                if (executor.isShutdown()) {
+                    throw e;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+            }
+        }
+    }
+
+    private static int resolveCost(PasswordEncoderProperties.Bcrypt bcrypt) {
+        if ("auto".equalsIgnoreCase(bcrypt.getCost())) {
+            return calibrateCost(bcrypt.getTargetDuration());
+        }
+
+        int cost = Integer.parseInt(bcrypt.getCost());
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("bcrypt cost 는 " + BCrypt.MIN_COST + " ~ " + BCrypt.MAX_COST + " 사이여야 합니다: " + cost);
+        }
+        return cost;
+    }
+
+    /**
+     * cost 를 1씩 올리며(해시 시간은 2배씩 증가) 해시 한 번이 targetDuration 을 넘지 않는 가장 큰 cost 를 찾는다.
+     */
+    static int calibrateCost(Duration targetDuration) {
+        char[] sample = "calibration-password".toCharArray();
+        // JIT 워밍업
+        BCrypt.withDefaults().hash(BCrypt.MIN_COST, sample);
+
+        int calibrated = BCrypt.MIN_COST;
+        for (int candidate = BCrypt.MIN_COST; candidate <= MAX_AUTO_COST; candidate++) {
+            long startedAt = System.nanoTime();
+            BCrypt.withDefaults().hash(candidate, sample);
+            long elapsed = System.nanoTime() - startedAt;
+
+            if (elapsed > targetDuration.toNanos()) {
+                break;
+            }
+            calibrated = candidate;
+        }
+        return calibrated;
     }
 }
@@ -0,0 +1,38 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "password")
+public class PasswordEncoderProperties {
+
+    private final Bcrypt bcrypt = new Bcrypt();
+    private final Executor executor = new Executor();
+
+    @Getter
+    @Setter
+    public static class Bcrypt {
+
+        // 4 ~ 31 사이의 cost, auto 이면 시작할 때 해시 시간을 측정하여 targetDuration 에 맞는 cost 를 고름
+        private String cost = "auto";
+        // auto 일 때 해시 한 번에 걸리는 목표 시간
+        private Duration targetDuration = Duration.ofMillis(100);
+    }
+
+    @Getter
+    @Setter
+    public static class Executor {
+
+        // bcrypt 를 실행하는 스레드 수, 0 이하이면 CPU 코어 수
+        private int threads = 0;
+        // 실행을 기다릴 수 있는 작업 수, 가득 차면 503 으로 거절
+        private int queueCapacity = 64;
+        // 작업 완료를 기다리는 최대 시간
+        private Duration maxWait = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 다음에 실행되며, 인증된 요청은 userId 기준으로, 인증이 없는 요청(/auth/**)은 클라이언트 IP 기준으로 요청 수를 제한한다.
+ * 제한을 넘으면 429 와 Retry-After(초) 헤더를 반환한다.
+ */
+@Slf4j
+public class RateLimitFilter implements Filter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.rateLimitProperties = rateLimitProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        if (!rateLimitProperties.isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String url = httpRequest.getRequestURI();
+        Map.Entry<String, RateLimitProperties.Group> group = findGroup(url);
+        if (group == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = group.getKey() + ":" + resolveClient(httpRequest);
+        RateLimitProperties.Group limit = group.getValue();
+        long retryAfterNanos = rateLimiter.tryAcquire(key, limit.getLimit(), limit.getPeriod().toNanos());
+
+        if (retryAfterNanos > 0) {
+            meterRegistry.counter("http.rate_limit.rejections", "group", group.getKey()).increment();
+            // 초 단위로 올림
+            long retryAfterSeconds = (retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+            httpResponse.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            httpResponse.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    private Map.Entry<String, RateLimitProperties.Group> findGroup(String url) {
+        for (Map.Entry<String, RateLimitProperties.Group> entry : rateLimitProperties.getGroups().entrySet()) {
+            for (String pattern : entry.getValue().getPatterns()) {
+                if (pathMatcher.match(pattern, url)) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    // JwtFilter 에서 set 한 userId 가 있으면 사용자 기준, 없으면 IP 기준
+    private String resolveClient(HttpServletRequest httpRequest) {
+        Object userId = httpRequest.getAttribute("userId");
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        // 프록시 뒤에 배포한다면 server.forward-headers-strategy 설정으로 remoteAddr 를 실제 클라이언트 IP 로 맞춰야 함
+        return "ip:" + httpRequest.getRemoteAddr();
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 이 주기마다 다 채워진 bucket 을 정리
+    private Duration evictionInterval = Duration.ofMinutes(1);
+
+    // 요청 경로와 처음으로 일치하는 그룹의 제한을 적용 (선언 순서대로 검사)
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        // AntPathMatcher 패턴
+        private List<String> patterns = new ArrayList<>();
+        // period 동안 허용하는 요청 수 (한 번에 몰아서 보낼 수 있는 최대 요청 수이기도 함)
+        private int limit = 60;
+        private Duration period = Duration.ofMinutes(1);
+
+        // RateLimiter 가 period 를 limit 으로 나누므로 바인딩할 때 잘못된 값을 막음
+        public void setLimit(int limit) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("rate-limit limit 은 0 보다 커야 합니다: " + limit);
+            }
+            this.limit = limit;
+        }
+
+        public void setPeriod(Duration period) {
+            if (period == null || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("rate-limit period 는 0 보다 커야 합니다: " + period);
+            }
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 방식의 token bucket.
+ * bucket 마다 다음 요청이 도착할 것으로 예상되는 시각(TAT) 하나만 AtomicLong 으로 보관하고 CAS 로 갱신하므로 lock 이 필요 없다.
+ */
+@Component
+public class RateLimiter {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public RateLimiter(MeterRegistry meterRegistry) {
+        this(meterRegistry, System::nanoTime);
+    }
+
+    RateLimiter(MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        Gauge.builder("http.rate_limit.buckets", buckets, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 시간(nanos)
+     */
+    public long tryAcquire(String key, int limit, long periodNanos) {
+        long emissionInterval = periodNanos / limit;
+        // TAT 가 현재 시각 이하이면 bucket 이 가득 찬 상태
+        AtomicLong tat = buckets.computeIfAbsent(key, k -> new AtomicLong(nanoClock.getAsLong()));
+
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = tat.get();
+            long base = current - now < 0 ? now : current;
+            long next = base + emissionInterval;
+
+            // 허용 범위(period)를 넘어서 예약해야 한다면 거절
+            long retryAfter = next - periodNanos - now;
+            if (retryAfter > 0) {
+                return retryAfter;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * TAT 가 지난 bucket 은 새 bucket 과 상태가 같으므로 지워도 제한이 느슨해지지 않는다.
+     * (정리하는 순간 같은 bucket 을 갱신하던 요청 하나는 반영되지 않을 수 있음)
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:PT1M}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 JWT 에서 요청 처리에 필요한 값만 꺼내 둔 것
+ */
+@Getter
+public class VerifiedToken {
+
+    private final Long userId;
+    private final String email;
+    private final String userRole;
+    // epoch millis
+    private final long issuedAt;
+    private final long expiresAt;
+
+    public VerifiedToken(Long userId, String email, String userRole, long issuedAt, long expiresAt) {
+        this.userId = userId;
+        this.email = email;
+        this.userRole = userRole;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("userRole", String.class),
+                claims.getIssuedAt().getTime(),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE
+        );
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAt;
+    }
+}
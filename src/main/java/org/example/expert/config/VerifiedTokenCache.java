@@ -0,0 +1,114 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 이미 서명을 검증한 JWT 를 만료 시각까지 보관하여 같은 토큰의 HMAC 검증과 JSON 파싱을 반복하지 않는다.
+ * 토큰 원문 대신 SHA-256 digest 를 key 로 사용하며, 최대 maxSize 개까지만 보관하고 넘치면 가장 먼저 넣은 토큰을 내보낸다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<String, VerifiedToken> tokens = new ConcurrentHashMap<>();
+    // 가득 찼을 때 내보낼 순서 (먼저 넣은 토큰부터)
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final int maxSize;
+    private final Clock clock;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize, MeterRegistry meterRegistry) {
+        this(maxSize, meterRegistry, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxSize, MeterRegistry meterRegistry, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.hitCounter = meterRegistry.counter("jwt.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.cache.requests", "result", "miss");
+        this.evictionCounter = meterRegistry.counter("jwt.cache.evictions", "reason", "size");
+        Gauge.builder("jwt.cache.size", tokens, Map::size)
+                .description("검증을 마친 JWT 캐시 크기")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 캐시에 있고 아직 만료되지 않은 토큰, 없으면 null
+     */
+    public VerifiedToken get(String token) {
+        String key = digest(token);
+        VerifiedToken verified = tokens.get(key);
+        if (verified == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (verified.isExpired(clock.millis())) {
+            tokens.remove(key, verified);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return verified;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        String key = digest(token);
+        if (tokens.putIfAbsent(key, verified) != null) {
+            return;
+        }
+        insertionOrder.offer(key);
+
+        // 가득 차면 가장 먼저 넣은 토큰부터 하나씩 내보냄 (만료된 토큰 정리는 evictExpired 스케줄러만 담당)
+        // 이미 제거된 key 가 먼저 나오면 건너뛰므로, 한 번의 put 이 하는 일은 그동안 쌓인 제거된 key 수만큼으로 제한됨
+        while (tokens.size() > maxSize) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            if (tokens.remove(eldest) != null) {
+                evictionCounter.increment();
+            }
+        }
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.cache.eviction-interval:PT1M}")
+    public void evictExpired() {
+        long now = clock.millis();
+        tokens.values().removeIf(verified -> verified.isExpired(now));
+        // 만료나 조회 중 제거된 토큰의 key 가 입력 순서 큐에 계속 쌓이지 않도록 함께 정리
+        insertionOrder.removeIf(key -> !tokens.containsKey(key));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 은 SHA-256 을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별로 "revokedAt 이전에 발급된 토큰은 무효" 라는 기준 시각 (사용자당 한 행)
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "token_revocations", indexes = @Index(name = "idx_token_revocations_revoked_at", columnList = "revoked_at"))
+public class TokenRevocation {
+
+    @Id
+    private Long userId;
+    // epoch millis
+    @Column(nullable = false)
+    private long revokedAt;
+
+    public TokenRevocation(Long userId, long revokedAt) {
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+    }
+
+    public void revoke(long revokedAt) {
+        this.revokedAt = Math.max(this.revokedAt, revokedAt);
+    }
+}
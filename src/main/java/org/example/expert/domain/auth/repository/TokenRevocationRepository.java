@@ -0,0 +1,12 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    // 아직 만료되지 않은 토큰에 영향을 주는 기준 시각만 조회
+    List<TokenRevocation> findAllByRevokedAtGreaterThan(long since);
+}
@@ -11,7 +11,10 @@ import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserConstraintViolations;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.EmailBloomFilter;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,11 +25,16 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TokenRevocationService tokenRevocationService;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
+        // Bloom filter 에 없으면 새 이메일이 확실하므로 DB 조회 생략
+        // 있을 수도 있다면 비싼 bcrypt 를 실행하기 전에 DB 로 한 번 더 확인
+        if (emailBloomFilter.mightContain(signupRequest.getEmail())
+                && userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new InvalidRequestException("이미 존재하는 이메일입니다.");
         }
 
@@ -39,7 +47,18 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            // 중복 여부는 users.email unique 제약으로 최종 판단 (동시 가입 시에도 보장)
+            savedUser = userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            // 기본 키 등 다른 제약 위반까지 중복 이메일로 응답하지 않음
+            if (UserConstraintViolations.isEmailUniqueViolation(e)) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            throw e;
+        }
+        emailBloomFilter.put(savedUser.getEmail());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
@@ -56,7 +75,9 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        // 비밀번호 변경 직후 같은 초에 다시 로그인해도 무효 기준 시각 이후에 발급된 토큰이 되도록 함
+        long issuedAt = tokenRevocationService.nextIssuedAt(user.getId());
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), issuedAt);
 
         return new SigninResponse(bearerToken);
     }
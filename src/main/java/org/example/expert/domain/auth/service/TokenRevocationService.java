@@ -0,0 +1,212 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비밀번호나 권한이 바뀐 사용자의 기존 JWT 를 만료 전에 무효로 한다.
+ *
+ * 토큰을 하나씩 기록하지 않고 사용자별로 "이 시각 이전에 발급된 토큰은 무효" 라는 기준 시각만 보관하므로,
+ * JwtFilter 는 요청마다 DB 조회 없이 userId 로 배열을 한 번 찾아보는 것으로 확인할 수 있다.
+ * 기준 시각이 토큰 유효 시간보다 오래되면 그 이전에 발급된 토큰은 이미 만료되었으므로 메모리에서 제외한다.
+ *
+ * 기준 시각은 token_revocations 테이블에 저장하여 재시작 후에도 유지하고,
+ * 다른 서버에서 기록한 값은 주기적으로 다시 읽어 반영한다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationService {
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final Clock clock;
+    private final Counter rejectionCounter;
+
+    // 읽기는 모든 요청마다, 쓰기는 비밀번호/권한 변경 시에만 일어나므로 불변 snapshot 을 통째로 교체
+    private volatile Watermarks watermarks = Watermarks.EMPTY;
+
+    @Autowired
+    public TokenRevocationService(TokenRevocationRepository tokenRevocationRepository, MeterRegistry meterRegistry) {
+        this(tokenRevocationRepository, meterRegistry, Clock.systemUTC());
+    }
+
+    TokenRevocationService(TokenRevocationRepository tokenRevocationRepository, MeterRegistry meterRegistry, Clock clock) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.clock = clock;
+        this.rejectionCounter = meterRegistry.counter("jwt.revocation.rejections");
+        Gauge.builder("jwt.revocation.watermarks", this, service -> service.watermarks.size)
+                .description("메모리에 보관 중인 사용자별 토큰 무효 기준 시각 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * JWT 의 iat 는 초 단위이므로 기준 시각도 초 단위로 내려 기록하고, 기준 시각과 같은 초에 발급된 토큰도 무효로 본다.
+     * 무효화 직후 같은 초에 다시 로그인한 토큰까지 막히지 않도록 새 토큰은 nextIssuedAt() 이후 시각으로 발급한다.
+     *
+     * @param issuedAt 토큰 발급 시각 (epoch millis, 초 단위)
+     */
+    public boolean isRevoked(long userId, long issuedAt) {
+        long revokedAt = watermarks.get(userId);
+        if (revokedAt != NONE && issuedAt <= revokedAt) {
+            rejectionCounter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 지금까지 발급된 userId 의 모든 토큰을 무효로 한다.
+     * 호출한 트랜잭션 안에서 DB 에 기록하고, 커밋된 뒤에 메모리에 반영한다.
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        long revokedAt = truncateToSeconds(clock.millis());
+        tokenRevocationRepository.findById(userId).ifPresentOrElse(
+                revocation -> revocation.revoke(revokedAt),
+                () -> tokenRevocationRepository.save(new TokenRevocation(userId, revokedAt))
+        );
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(Map.of(userId, revokedAt));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(Map.of(userId, revokedAt));
+            }
+        });
+    }
+
+    /**
+     * 새로 발급할 토큰의 iat 로 쓸 시각, 기준 시각과 같은 초라면 다음 초로 미룬다.
+     * 다른 서버에서 방금 기록한 기준 시각도 반영되도록 메모리 대신 DB 에서 읽는다. (로그인할 때만 호출)
+     */
+    @Transactional(readOnly = true)
+    public long nextIssuedAt(Long userId) {
+        long now = truncateToSeconds(clock.millis());
+        return tokenRevocationRepository.findById(userId)
+                .map(revocation -> Math.max(now, revocation.getRevokedAt() + 1000))
+                .orElse(now);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+        log.info("토큰 무효 기준 시각 {} 건 로드", watermarks.size);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:PT10S}")
+    public void refresh() {
+        List<TokenRevocation> revocations =
+                tokenRevocationRepository.findAllByRevokedAtGreaterThan(clock.millis() - JwtUtil.TOKEN_TIME);
+
+        Map<Long, Long> loaded = new HashMap<>(revocations.size() * 2);
+        for (TokenRevocation revocation : revocations) {
+            loaded.put(revocation.getUserId(), revocation.getRevokedAt());
+        }
+        apply(loaded);
+    }
+
+    public int size() {
+        return watermarks.size;
+    }
+
+    private static long truncateToSeconds(long millis) {
+        return millis - Math.floorMod(millis, 1000L);
+    }
+
+    // 현재 값과 합치면서 토큰 유효 시간이 지난 기준 시각은 제외
+    private synchronized void apply(Map<Long, Long> updates) {
+        long expiredBefore = clock.millis() - JwtUtil.TOKEN_TIME;
+        Watermarks current = watermarks;
+
+        Map<Long, Long> merged = new HashMap<>((current.size + updates.size()) * 2);
+        for (int i = 0; i < current.keys.length; i++) {
+            if (current.keys[i] != Watermarks.EMPTY_KEY && current.values[i] > expiredBefore) {
+                merged.put(current.keys[i], current.values[i]);
+            }
+        }
+        updates.forEach((userId, revokedAt) -> {
+            if (revokedAt > expiredBefore) {
+                merged.merge(userId, revokedAt, Math::max);
+            }
+        });
+
+        watermarks = Watermarks.of(merged);
+    }
+
+    /**
+     * userId → 기준 시각을 담는 불변 open addressing 해시 테이블 (boxing 없이 long 배열만 사용)
+     */
+    private static final class Watermarks {
+
+        // userId 는 1부터 발급되므로 0 을 빈 칸 표시로 사용
+        private static final long EMPTY_KEY = 0L;
+        private static final Watermarks EMPTY = new Watermarks(new long[0], new long[0], 0);
+
+        private final long[] keys;
+        private final long[] values;
+        private final int size;
+
+        private Watermarks(long[] keys, long[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        private static Watermarks of(Map<Long, Long> entries) {
+            if (entries.isEmpty()) {
+                return EMPTY;
+            }
+
+            // 채움 비율을 50% 이하로 유지하여 탐색 길이를 짧게 하고, 빈 칸이 항상 남도록 함
+            int capacity = Integer.highestOneBit(entries.size() * 2 - 1) << 1;
+            long[] keys = new long[capacity];
+            long[] values = new long[capacity];
+            entries.forEach((userId, revokedAt) -> {
+                int index = indexOf(keys, userId);
+                keys[index] = userId;
+                values[index] = revokedAt;
+            });
+            return new Watermarks(keys, values, entries.size());
+        }
+
+        private long get(long userId) {
+            if (size == 0) {
+                return NONE;
+            }
+            int index = indexOf(keys, userId);
+            return keys[index] == userId ? values[index] : NONE;
+        }
+
+        // userId 가 있는 칸 또는 처음 만나는 빈 칸
+        private static int indexOf(long[] keys, long userId) {
+            int mask = keys.length - 1;
+            int index = (int) ((userId * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+            while (keys[index] != EMPTY_KEY && keys[index] != userId) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+    }
+}
@@ -15,4 +15,9 @@ public class CommentResponse {
         this.contents = contents;
         this.user = user;
     }
+
+    // JPQL 생성자 표현식용, 생성자 안에서 다시 new 를 쓸 수 없으므로 user 를 펼쳐서 받음
+    public CommentResponse(Long id, String contents, Long userId, String userEmail) {
+        this(id, contents, new UserResponse(userId, userEmail));
+    }
 }
@@ -1,14 +1,45 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.repository.TodoChildCount;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // 변경 알림에 일정 id 를 담기 위해 댓글 엔티티를 읽지 않고 FK 만 조회
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findTodoIdById(@Param("commentId") Long commentId);
+
+    // 조건부 조회(ETag)용, 댓글이 없으면 count 0, modifiedAt null
+    @Query("SELECT COUNT(c) AS count, MAX(c.modifiedAt) AS modifiedAt FROM Comment c WHERE c.todo.id = :todoId")
+    CommentsVersion findVersionByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT c.todo.id AS todoId, COUNT(c) AS count FROM Comment c " +
+            "WHERE c.todo.id IN :todoIds " +
+            "GROUP BY c.todo.id")
+    List<TodoChildCount> countByTodoIds(@Param("todoIds") Collection<Long> todoIds);
+
+    // 삭제된 일정 정리용, c.todo.id 는 FK 컬럼이라 todos 와 join 하지 않음
+    @Query("SELECT c.id FROM Comment c WHERE c.todo.id = :todoId ORDER BY c.id")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,14 @@
+package org.example.expert.domain.comment.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정의 댓글 목록 응답의 ETag 를 만들기 위한 projection.
+ * 추가, 수정은 가장 늦은 수정 시각이, 삭제는 댓글 수가 바뀌므로 두 값으로 목록이 바뀌었는지 알 수 있다.
+ */
+public interface CommentsVersion {
+
+    long getCount();
+
+    LocalDateTime getModifiedAt();
+}
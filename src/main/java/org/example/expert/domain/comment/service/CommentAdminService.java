@@ -2,17 +2,25 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.enums.TodoChangeType;
+import org.example.expert.domain.todo.event.TodoChangeEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void deleteComment(long commentId) {
+        Optional<Long> todoId = commentRepository.findTodoIdById(commentId);
         commentRepository.deleteById(commentId);
+        todoId.ifPresent(id -> eventPublisher.publishEvent(TodoChangeEvent.comment(TodoChangeType.DELETED, id, commentId)));
     }
 }
@@ -0,0 +1,66 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 조회 응답의 버전(ETag, Last-Modified).
+ * 응답 본문 대신 수정 시각, 개수 같은 작은 값들로 만들어서, 바뀌지 않았으면 본문을 조회하지 않고 304 로 응답할 수 있게 한다.
+ */
+@Getter
+public class ResourceVersion {
+
+    private final String eTag;
+    private final LocalDateTime lastModified;
+
+    private ResourceVersion(String eTag, LocalDateTime lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * @param parts 응답 본문이 바뀌면 하나라도 같이 바뀌는 값들
+     */
+    public static ResourceVersion of(Object... parts) {
+        return new ResourceVersion(toETag(parts), null);
+    }
+
+    /**
+     * lastModified 만으로 응답이 바뀌었는지 알 수 있을 때만 Last-Modified 를 함께 보낸다.
+     * (댓글 삭제처럼 수정 시각의 최댓값을 바꾸지 않는 변경이 있는 목록에는 쓰지 않음)
+     */
+    public static ResourceVersion of(LocalDateTime lastModified, Object... parts) {
+        return new ResourceVersion(toETag(parts), lastModified);
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since 를 확인하고 응답에 ETag / Last-Modified 헤더를 쓴다.
+     * 두 헤더가 모두 오면 If-None-Match 가 우선한다.
+     *
+     * @return true 이면 304 가 설정되었으므로 본문 없이 응답을 끝내면 된다
+     */
+    public boolean checkNotModified(WebRequest webRequest) {
+        if (lastModified == null) {
+            return webRequest.checkNotModified(eTag);
+        }
+        // Auditing 이 시스템 시간대의 LocalDateTime 으로 기록하므로 같은 시간대로 변환
+        long lastModifiedMillis = lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return webRequest.checkNotModified(eTag, lastModifiedMillis);
+    }
+
+    // 같은 내용이면 직렬화 결과가 바이트 단위로 같다고 보장하지 않으므로 weak ETag 로 보냄
+    private static String toETag(Object... parts) {
+        String joined = Arrays.stream(parts)
+                .map(part -> Objects.toString(part, ""))
+                .collect(Collectors.joining(":"));
+        return "W/\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.expert.domain.common.exception;
+
+/**
+ * 서버가 처리할 수 있는 작업량을 넘어 요청을 바로 거절하는 경우 발생시킨다. (503)
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
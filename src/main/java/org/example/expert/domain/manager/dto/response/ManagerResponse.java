@@ -13,4 +13,9 @@ public class ManagerResponse {
         this.id = id;
         this.user = user;
     }
+
+    // JPQL 생성자 표현식용, 생성자 안에서 다시 new 를 쓸 수 없으므로 user 를 펼쳐서 받음
+    public ManagerResponse(Long id, Long userId, String userEmail) {
+        this(id, new UserResponse(userId, userEmail));
+    }
 }
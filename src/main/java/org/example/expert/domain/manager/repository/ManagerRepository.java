@@ -1,13 +1,35 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.repository.TodoChildCount;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u " +
+            "WHERE m.todo.id = :todoId")
+    List<ManagerResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT m.todo.id AS todoId, COUNT(m) AS count FROM Manager m " +
+            "WHERE m.todo.id IN :todoIds " +
+            "GROUP BY m.todo.id")
+    List<TodoChildCount> countByTodoIds(@Param("todoIds") Collection<Long> todoIds);
+
+    // 삭제된 일정 정리용, m.todo.id 는 FK 컬럼이라 todos 와 join 하지 않음
+    @Query("SELECT m.id FROM Manager m WHERE m.todo.id = :todoId ORDER BY m.id")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
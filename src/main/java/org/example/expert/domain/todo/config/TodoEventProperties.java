@@ -0,0 +1,26 @@
+package org.example.expert.domain.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "todo.events")
+public class TodoEventProperties {
+
+    // 구독자마다 보내지 못하고 쌓아 둘 수 있는 이벤트 수, 넘치면 resync 를 보내고 연결을 끊음
+    private int bufferSize = 256;
+    // 동시에 연결할 수 있는 구독자 수 (server.tomcat.max-connections 보다 작게 설정)
+    private int maxSubscribers = 5000;
+    // 모든 구독자의 이벤트를 나눠서 전송하는 스레드 수
+    private int senderThreads = 2;
+    // 한 번의 전송이 이보다 오래 막히면 구독자를 끊고 전송 스레드를 하나 더 띄움
+    private Duration sendTimeout = Duration.ofSeconds(10);
+    // 끊어진 연결을 찾고 프록시의 idle timeout 을 피하기 위해 보내는 주석 줄의 주기
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+    // 연결 유지 시간, 지나면 서버가 끊고 클라이언트(EventSource)가 다시 연결함
+    private Duration timeout = Duration.ofMinutes(30);
+}
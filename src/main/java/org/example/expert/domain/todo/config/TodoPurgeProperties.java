@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "todo.purge")
+public class TodoPurgeProperties {
+
+    // 한 번의 DELETE 로 지울 댓글/담당자 수 (트랜잭션 하나가 잡는 잠금 범위)
+    private int chunkSize = 1000;
+    // 한 번 실행할 때 조회할 삭제된 일정 수, DELETE 횟수가 먼저 소진되므로 크게 잡을 필요는 없음
+    private int scanSize = 100;
+    // 한 번 실행할 때 최대 DELETE 횟수, 남은 것은 다음 주기에 이어서 처리
+    private int maxChunksPerRun = 20;
+    // 삭제된 일정을 확인하는 주기
+    private Duration interval = Duration.ofSeconds(10);
+}
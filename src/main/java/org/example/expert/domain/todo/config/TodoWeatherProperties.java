@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "todo.weather")
+public class TodoWeatherProperties {
+
+    /**
+     * SYNC: 일정 저장 시 날씨를 조회하여 함께 저장
+     * DEFERRED: 일정을 PENDING 상태로 먼저 저장하고, 날씨는 백그라운드에서 채움
+     */
+    private Mode mode = Mode.SYNC;
+
+    private final Backfill backfill = new Backfill();
+
+    public enum Mode {
+        SYNC, DEFERRED
+    }
+
+    @Getter
+    @Setter
+    public static class Backfill {
+
+        // 한 번에 처리할 PENDING 일정 수
+        private int batchSize = 500;
+        // PENDING 일정을 확인하는 주기
+        private Duration interval = Duration.ofSeconds(5);
+        // 날씨 조회 실패 시 재시도 대기 시간 (실패할 때마다 2배씩 증가)
+        private Duration initialBackoff = Duration.ofSeconds(5);
+        private Duration maxBackoff = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoExportService todoExportService;
+
+    /**
+     * 모든 일정을 NDJSON 또는 CSV 로 내보낸다. 응답은 별도 스레드에서 DB 를 읽는 대로 쓴다.
+     * 응답 본문이 크므로 요청/응답 본문을 직렬화하는 @LogAdmin 은 붙이지 않음
+     */
+    @GetMapping("/admin/todos/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(@RequestParam(defaultValue = "ndjson") String format) {
+        TodoExportFormat exportFormat = TodoExportFormat.of(format);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("todos." + exportFormat.getExtension(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(out -> todoExportService.export(exportFormat, out));
+    }
+}
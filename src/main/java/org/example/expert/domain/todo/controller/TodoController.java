@@ -1,22 +1,36 @@
 package org.example.expert.domain.todo.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoBatchService;
+import org.example.expert.domain.todo.service.TodoChangeFeed;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoBatchService todoBatchService;
+    private final TodoChangeFeed todoChangeFeed;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,6 +40,30 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    /**
+     * 일정을 한 번에 여러 개 저장한다. 요청은 TodoSaveRequest 의 JSON 배열 또는 NDJSON,
+     * 응답은 항목별 결과(TodoBatchResult)를 chunk 마다 NDJSON 으로 쓰고, 마지막 줄에 전체 결과(TodoBatchSummary)를 쓴다.
+     */
+    @PostMapping(
+            value = "/todos/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public void saveTodos(
+            @Auth AuthUser authUser,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        todoBatchService.saveTodos(
+                authUser,
+                request.getInputStream(),
+                MediaType.parseMediaType(request.getContentType()),
+                response.getOutputStream()
+        );
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
@@ -34,8 +72,45 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    // cursor 파라미터가 있으면 cursor 페이지네이션 (첫 페이지는 cursor= 로 요청)
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(cursor, size));
+    }
+
+    /**
+     * 일정/댓글/담당자 변경 이벤트를 SSE 로 받는다. 목록을 주기적으로 다시 조회하는 대신 사용한다.
+     * 연결한 뒤 목록을 한 번 조회하고 change 이벤트로 갱신하며, resync 이벤트를 받으면 목록을 다시 조회한다.
+     *
+     * @param todoIds 지정하면 해당 일정의 이벤트만 받는다 (최대 100개)
+     */
+    @GetMapping(value = "/todos/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTodoEvents(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) Set<Long> todoIds,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return todoChangeFeed.subscribe(authUser.getId(), todoIds != null ? todoIds : Set.of(), lastEventId);
+    }
+
+    /**
+     * 버전(ETag)만 먼저 조회해서 If-None-Match 와 같으면 일정을 조회하지 않고 304 로 응답한다.
+     */
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        if (todoService.getTodoVersion(todoId).checkNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(todoService.getTodo(todoId));
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(@Auth AuthUser authUser, @PathVariable long todoId) {
+        todoService.deleteTodo(authUser, todoId);
     }
 }
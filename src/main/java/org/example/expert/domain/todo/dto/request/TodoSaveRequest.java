@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,4 +16,10 @@ public class TodoSaveRequest {
     private String title;
     @NotBlank
     private String contents;
+    // 일정 예정일, 없으면 오늘 날씨를 사용
+    private LocalDate plannedDate;
+
+    public TodoSaveRequest(String title, String contents) {
+        this(title, contents, null);
+    }
 }
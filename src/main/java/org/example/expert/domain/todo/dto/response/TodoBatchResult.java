@@ -0,0 +1,26 @@
+package org.example.expert.domain.todo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.TodoBatchStatus;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TodoBatchResult {
+
+    // 요청 안에서 일정의 순서 (0부터 시작)
+    private final long index;
+    private final TodoBatchStatus status;
+    private final Long id;
+    private final WeatherStatus weatherStatus;
+    private final String message;
+
+    public TodoBatchResult(long index, TodoBatchStatus status, Long id, WeatherStatus weatherStatus, String message) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.weatherStatus = weatherStatus;
+        this.message = message;
+    }
+}
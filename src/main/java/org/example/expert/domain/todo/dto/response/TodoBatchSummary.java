@@ -0,0 +1,25 @@
+package org.example.expert.domain.todo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+/**
+ * 일괄 저장 응답의 마지막 줄. 이 줄이 없으면 응답이 중간에 끊긴 것이다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TodoBatchSummary {
+
+    // false 면 message 의 사유로 중간에 중단되었고, 앞 줄에 결과가 없는 항목은 저장되지 않음
+    private final boolean completed;
+    private final long created;
+    private final long invalid;
+    private final String message;
+
+    public TodoBatchSummary(boolean completed, long created, long invalid, String message) {
+        this.completed = completed;
+        this.created = created;
+        this.invalid = invalid;
+        this.message = message;
+    }
+}
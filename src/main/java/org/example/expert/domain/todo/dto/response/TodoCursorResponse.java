@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoCursorResponse {
+
+    private final List<TodoResponse> content;
+    // 다음 페이지 요청 시 cursor 로 전달, 마지막 페이지이면 null
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public TodoCursorResponse(List<TodoResponse> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 내보내기용 한 행, CSV 로도 쓰므로 작성자 정보를 펼쳐서 가짐
+@Getter
+public class TodoExportRow {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final WeatherStatus weatherStatus;
+    private final LocalDate plannedDate;
+    private final String userEmail;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoExportRow(Long id, String title, String contents, String weather, WeatherStatus weatherStatus, LocalDate plannedDate, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.weatherStatus = weatherStatus;
+        this.plannedDate = plannedDate;
+        this.userEmail = userEmail;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
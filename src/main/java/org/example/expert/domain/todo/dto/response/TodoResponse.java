@@ -1,8 +1,10 @@
 package org.example.expert.domain.todo.dto.response;
 
 import lombok.Getter;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Getter
@@ -12,17 +14,34 @@ public class TodoResponse {
     private final String title;
     private final String contents;
     private final String weather;
+    private final WeatherStatus weatherStatus;
+    private final LocalDate plannedDate;
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    // 목록 조회 시 페이지 단위로 한 번에 조회해서 채움
+    private long commentCount;
+    private long managerCount;
 
-    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public TodoResponse(Long id, String title, String contents, String weather, WeatherStatus weatherStatus, LocalDate plannedDate, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
         this.id = id;
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherStatus = weatherStatus;
+        this.plannedDate = plannedDate;
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
+
+    // JPQL 생성자 표현식용, 생성자 안에서 다시 new 를 쓸 수 없으므로 user 를 펼쳐서 받음
+    public TodoResponse(Long id, String title, String contents, String weather, WeatherStatus weatherStatus, LocalDate plannedDate, Long userId, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, weatherStatus, plannedDate, new UserResponse(userId, userEmail), createdAt, modifiedAt);
+    }
+
+    public void applyCounts(long commentCount, long managerCount) {
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+    }
 }
@@ -1,8 +1,11 @@
 package org.example.expert.domain.todo.dto.response;
 
 import lombok.Getter;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
+import java.time.LocalDate;
+
 @Getter
 public class TodoSaveResponse {
 
@@ -10,13 +13,17 @@ public class TodoSaveResponse {
     private final String title;
     private final String contents;
     private final String weather;
+    private final WeatherStatus weatherStatus;
+    private final LocalDate plannedDate;
     private final UserResponse user;
 
-    public TodoSaveResponse(Long id, String title, String contents, String weather, UserResponse user) {
+    public TodoSaveResponse(Long id, String title, String contents, String weather, WeatherStatus weatherStatus, LocalDate plannedDate, UserResponse user) {
         this.id = id;
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherStatus = weatherStatus;
+        this.plannedDate = plannedDate;
         this.user = user;
     }
 }
@@ -3,46 +3,87 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.entity.User;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_weather_status", columnList = "weather_status"),
+        // 목록 cursor 페이지네이션 (modifiedAt DESC, id DESC)
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"),
+        // 삭제된 일정의 댓글/담당자 정리 (TodoPurgeService)
+        @Index(name = "idx_todos_deleted_at", columnList = "deleted_at")
+})
+// 삭제된 일정은 모든 조회에서 제외 (댓글/담당자는 TodoPurgeService 가 나중에 정리한 뒤 일정 행을 지움)
+@SQLRestriction("deleted_at IS NULL")
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 마다 id 를 받아와야 해서 JDBC batch 가 꺼지므로 pooled sequence 사용
+    // (sequence 가 없는 MySQL 에서는 Hibernate 가 같은 이름의 테이블로 대신함)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
+    @Enumerated(EnumType.STRING)
+    private WeatherStatus weatherStatus;
+    private LocalDate plannedDate;
+    private LocalDateTime deletedAt;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // CascadeType.REMOVE 는 댓글을 모두 읽어 한 건씩 삭제하므로 사용하지 않음
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
     private List<Manager> managers = new ArrayList<>();
 
     public Todo(String title, String contents, String weather, User user) {
+        this(title, contents, weather, null, user);
+    }
+
+    public Todo(String title, String contents, String weather, LocalDate plannedDate, User user) {
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.plannedDate = plannedDate;
+        // 날씨 없이 저장되는 일정은 백그라운드에서 날씨를 채움
+        this.weatherStatus = weather == null ? WeatherStatus.PENDING : WeatherStatus.RESOLVED;
         this.user = user;
         this.managers.add(new Manager(user, this));
     }
 
+    public void resolveWeather(String weather) {
+        this.weather = weather;
+        this.weatherStatus = WeatherStatus.RESOLVED;
+    }
+
+    // 날씨 데이터에 날짜가 없으면 날씨 없이 확정하고, 백그라운드에서도 다시 채우지 않음
+    public void markWeatherUnavailable() {
+        this.weatherStatus = WeatherStatus.UNAVAILABLE;
+    }
+
     public void update(String title, String contents) {
         this.title = title;
         this.contents = contents;
     }
+
+    public void delete(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
 }
@@ -0,0 +1,5 @@
+package org.example.expert.domain.todo.enums;
+
+public enum TodoChangeType {
+    CREATED, UPDATED, DELETED
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.enums;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+@Getter
+public enum TodoExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(MediaType.valueOf("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    TodoExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static TodoExportFormat of(String format) {
+        return Arrays.stream(TodoExportFormat.values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("ndjson 또는 csv 형식만 지원합니다."));
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.enums;
+
+public enum WeatherStatus {
+    PENDING,    // 일정은 저장되었고 날씨는 백그라운드에서 채워질 예정
+    RESOLVED,
+    UNAVAILABLE // 날씨 데이터에 해당 날짜가 없어 날씨 없이 확정됨, 다시 채우지 않음
+}
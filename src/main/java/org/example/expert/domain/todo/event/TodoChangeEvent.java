@@ -0,0 +1,41 @@
+package org.example.expert.domain.todo.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.TodoChangeTarget;
+import org.example.expert.domain.todo.enums.TodoChangeType;
+
+/**
+ * 일정, 댓글, 담당자가 바뀌었음을 알리는 이벤트.
+ * 서비스에서 ApplicationEventPublisher 로 발행하면 커밋된 뒤 TodoChangeFeed 가 SSE 구독자에게 그대로 보낸다.
+ * 바뀐 내용은 담지 않으므로 클라이언트는 필요하면 해당 일정을 다시 조회한다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TodoChangeEvent {
+
+    private final TodoChangeTarget target;
+    private final TodoChangeType type;
+    private final Long todoId;
+    // 댓글 또는 담당자 id, 일정 이벤트는 null
+    private final Long targetId;
+
+    private TodoChangeEvent(TodoChangeTarget target, TodoChangeType type, Long todoId, Long targetId) {
+        this.target = target;
+        this.type = type;
+        this.todoId = todoId;
+        this.targetId = targetId;
+    }
+
+    public static TodoChangeEvent todo(TodoChangeType type, Long todoId) {
+        return new TodoChangeEvent(TodoChangeTarget.TODO, type, todoId, null);
+    }
+
+    public static TodoChangeEvent comment(TodoChangeType type, Long todoId, Long commentId) {
+        return new TodoChangeEvent(TodoChangeTarget.COMMENT, type, todoId, commentId);
+    }
+
+    public static TodoChangeEvent manager(TodoChangeType type, Long todoId, Long managerId) {
+        return new TodoChangeEvent(TodoChangeTarget.MANAGER, type, todoId, managerId);
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 날씨를 채워야 하는 일정의 id 와 날씨 기준 날짜(예정일, 생성 시각)만 조회하기 위한 projection
+ */
+public interface PendingWeatherTodo {
+
+    Long getId();
+
+    LocalDate getPlannedDate();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,11 @@
+package org.example.expert.domain.todo.repository;
+
+/**
+ * 일정별 댓글 수, 담당자 수를 GROUP BY 로 한 번에 조회하기 위한 projection
+ */
+public interface TodoChildCount {
+
+    Long getTodoId();
+
+    long getCount();
+}
@@ -1,25 +1,105 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @EntityGraph(attributePaths = { "user" })
-    @Query("SELECT t FROM Todo t ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 조회 API 는 엔티티 대신 필요한 컬럼만 응답 DTO 로 바로 조회 (영속성 컨텍스트에 올리지 않고, 비밀번호 컬럼도 읽지 않음)
+    String TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, t.weatherStatus, t.plannedDate, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ";
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    @Query(value = TODO_RESPONSE + "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findAllByOrderByModifiedAtDesc(Pageable pageable);
+
+    // cursor 페이지네이션의 첫 페이지, COUNT 쿼리 없이 limit 만큼만 조회
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstPage(Limit limit);
+
+    // (modifiedAt, id) 가 cursor 보다 뒤에 있는 일정부터 limit 만큼 조회, OFFSET 없이 인덱스에서 바로 시작 위치를 찾음
+    @Query(TODO_RESPONSE +
+            "WHERE t.modifiedAt < :modifiedAt " +
+            "OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findPageAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Limit limit);
+
+    @Query(TODO_RESPONSE + "WHERE t.id = :todoId")
+    Optional<TodoResponse> findResponseById(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    // 조건부 조회(ETag)용, 일정과 댓글/담당자 엔티티를 읽지 않고 버전을 만들 값만 조회
+    @Query("SELECT t.modifiedAt AS modifiedAt, " +
+            "(SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) AS commentCount, " +
+            "(SELECT MAX(c.modifiedAt) FROM Comment c WHERE c.todo.id = t.id) AS commentModifiedAt, " +
+            "(SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id) AS managerCount, " +
+            "(SELECT MAX(m.id) FROM Manager m WHERE m.todo.id = t.id) AS managerMaxId " +
+            "FROM Todo t WHERE t.id = :todoId")
+    Optional<TodoVersion> findVersionById(@Param("todoId") Long todoId);
+
+    // 전체 내보내기용, 트랜잭션 안에서 사용해야 함
+    // DTO 로 조회하므로 영속성 컨텍스트에 엔티티가 쌓이지 않고, fetch size 단위로 DB 에서 나눠 읽음
+    // (MySQL 은 JDBC URL 에 useCursorFetch=true 가 있어야 fetch size 만큼씩 읽고, 없으면 결과 전체를 한 번에 받음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoExportRow(" +
+            "t.id, t.title, t.contents, t.weather, t.weatherStatus, t.plannedDate, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.id")
+    Stream<TodoExportRow> streamAllForExport();
+
+    @Query("SELECT t.id AS id, t.plannedDate AS plannedDate, t.createdAt AS createdAt FROM Todo t " +
+            "WHERE t.weatherStatus = :weatherStatus " +
+            "ORDER BY t.id")
+    List<PendingWeatherTodo> findByWeatherStatus(@Param("weatherStatus") WeatherStatus weatherStatus, Pageable pageable);
+
+    // @SQLRestriction 으로 JPQL 에서는 삭제된 일정이 보이지 않으므로 native query 로 조회
+    @Query(value = "SELECT id FROM todos WHERE deleted_at IS NOT NULL ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findDeletedIds(@Param("limit") int limit);
+
+    // 댓글과 담당자를 모두 지운 뒤 삭제된 일정 행을 지움
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM todos WHERE id = :todoId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeDeleted(@Param("todoId") Long todoId);
+
+    // 날씨 기준 날짜가 같은 PENDING 일정들의 날씨를 한 번의 UPDATE 로 채움
+    // 벌크 UPDATE 에는 Auditing 이 적용되지 않으므로 ETag 가 바뀌도록 modifiedAt 을 직접 갱신
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t " +
+            "SET t.weather = :weather, t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.RESOLVED, " +
+            "t.modifiedAt = LOCAL DATETIME " +
+            "WHERE t.id IN :todoIds " +
+            "AND t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.PENDING")
+    int updatePendingWeather(@Param("todoIds") List<Long> todoIds, @Param("weather") String weather);
+
+    // 날씨 데이터에 날짜가 없어 채울 수 없는 PENDING 일정을 다음 배치에서 다시 읽지 않도록 UNAVAILABLE 로 바꿈
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t " +
+            "SET t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.UNAVAILABLE, " +
+            "t.modifiedAt = LOCAL DATETIME " +
+            "WHERE t.id IN :todoIds " +
+            "AND t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.PENDING")
+    int markPendingWeatherUnavailable(@Param("todoIds") List<Long> todoIds);
 }
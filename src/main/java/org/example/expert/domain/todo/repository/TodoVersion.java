@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 단건 조회 응답의 ETag 를 만들기 위한 projection.
+ * 응답에 댓글 수, 담당자 수가 포함되므로 일정의 수정 시각과 함께 댓글/담당자의 변경도 알 수 있는 값을 조회한다.
+ */
+public interface TodoVersion {
+
+    LocalDateTime getModifiedAt();
+
+    long getCommentCount();
+
+    LocalDateTime getCommentModifiedAt();
+
+    long getManagerCount();
+
+    // 담당자에는 수정 시각이 없으므로, 삭제 후 추가해서 수가 같아져도 구분할 수 있도록 가장 큰 id 를 사용
+    Long getManagerMaxId();
+}
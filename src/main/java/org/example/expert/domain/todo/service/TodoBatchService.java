@@ -0,0 +1,294 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.config.TodoWeatherProperties;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchResult;
+import org.example.expert.domain.todo.dto.response.TodoBatchSummary;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoBatchStatus;
+import org.example.expert.domain.todo.enums.TodoChangeType;
+import org.example.expert.domain.todo.event.TodoChangeEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON 배열 또는 NDJSON 으로 받은 일정 목록을 chunk 단위로 저장한다.
+ * 입력을 스트림으로 읽고 chunk 마다 항목별 결과를 바로 응답에 쓰므로 요청 크기와 관계없이 메모리 사용량이 일정하다.
+ *
+ * chunk 마다
+ * 1. 항목별 검증 (실패한 항목만 INVALID, 나머지는 저장)
+ * 2. 트랜잭션 밖에서 날씨 조회 (요청 전체에서 날짜별로 한 번만 조회)
+ * 3. 일정과 작성자 담당자를 한 트랜잭션에서 JDBC batch insert
+ *
+ * 마지막 줄에는 항상 TodoBatchSummary 를 쓴다. 응답을 쓰기 시작한 뒤에 입력이 깨지거나 저장이 실패하면
+ * 상태 코드를 바꿀 수 없으므로 completed=false 와 사유를 마지막 줄로 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoBatchService {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TodoWeatherProperties todoWeatherProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 첫 chunk 를 쓰기 전에 실패하면 예외를 그대로 던져 일반 오류 응답이 되도록 한다.
+     *
+     * @param out 한 줄에 하나씩 TodoBatchResult 를, 마지막 줄에 TodoBatchSummary 를 NDJSON 으로 쓴다
+     * @return 저장된 일정 수
+     */
+    public long saveTodos(AuthUser authUser, InputStream in, MediaType contentType, OutputStream out) throws IOException {
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType);
+        if (!ndjson && !MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            throw new InvalidRequestException("application/json 또는 application/x-ndjson 형식만 지원합니다.");
+        }
+
+        ChunkWriter writer = new ChunkWriter(User.fromAuthUser(authUser), out);
+        try {
+            if (ndjson) {
+                readNdjson(in, writer);
+            } else {
+                readJsonArray(in, writer);
+            }
+            writer.flush();
+        } catch (RuntimeException e) {
+            if (!writer.written) {
+                throw e;
+            }
+            // 이미 저장한 chunk 는 커밋되었으므로 되돌리지 않고, 여기까지 처리했다는 것만 알림
+            log.warn("일정 일괄 저장 중단: userId={}, {} 건 저장 후 실패", authUser.getId(), writer.created, e);
+            String message = e instanceof InvalidRequestException ? e.getMessage() : "일정을 저장하는 중 오류가 발생하여 중단했습니다.";
+            writer.finish(false, message);
+            return writer.created;
+        }
+        writer.finish(true, null);
+
+        log.info("일정 일괄 저장 완료: userId={}, {} 건", authUser.getId(), writer.created);
+        return writer.created;
+    }
+
+    private void readNdjson(InputStream in, ChunkWriter writer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!StringUtils.hasText(line)) {
+                continue;
+            }
+            try {
+                writer.add(objectMapper.readValue(line, TodoSaveRequest.class));
+            } catch (JsonProcessingException e) {
+                writer.addInvalid("JSON 형식이 올바르지 않습니다.");
+            }
+        }
+    }
+
+    private void readJsonArray(InputStream in, ChunkWriter writer) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidRequestException("일정 목록은 JSON 배열이어야 합니다.");
+            }
+            // 배열 안의 JSON 이 깨지면 다음 항목의 시작을 알 수 없으므로 그 시점에서 요청을 중단
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                writer.add(parser.readValueAs(TodoSaveRequest.class));
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new InvalidRequestException("일정 목록의 항목은 JSON 객체여야 합니다.");
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private boolean isWeatherDeferred() {
+        return todoWeatherProperties.getMode() == TodoWeatherProperties.Mode.DEFERRED;
+    }
+
+    /**
+     * 날씨를 가져오지 못해도 요청 전체를 실패시키지 않고 PENDING 으로 저장한다. (백그라운드에서 채움)
+     * 날씨 데이터에 예정일이 없으면 null 을 반환하고 unavailableDates 에 기록한다.
+     */
+    private String fetchWeather(LocalDate plannedDate, Set<LocalDate> unavailableDates) {
+        try {
+            if (plannedDate == null) {
+                return weatherClient.getTodayWeather();
+            }
+            String weather = weatherClient.findWeather(plannedDate);
+            if (weather == null) {
+                unavailableDates.add(plannedDate);
+            }
+            return weather;
+        } catch (ServerException e) {
+            log.warn("날씨({})를 가져오지 못해 나중에 채웁니다: {}", plannedDate == null ? "오늘" : plannedDate, e.getMessage());
+            return null;
+        }
+    }
+
+    private class ChunkWriter {
+
+        private final User user;
+        private final OutputStream out;
+        private final List<BatchItem> chunk = new ArrayList<>(CHUNK_SIZE);
+        // 요청 안에서 같은 날짜의 날씨는 한 번만 조회 (key 가 null 이면 오늘)
+        private final Map<LocalDate, String> weathers = new HashMap<>();
+        // 날씨 데이터에 없어 UNAVAILABLE 로 저장할 예정일
+        private final Set<LocalDate> unavailableDates = new HashSet<>();
+        private long index;
+        private long created;
+        private long invalid;
+        // 응답에 한 줄이라도 썼는지 (이후에는 상태 코드로 실패를 알릴 수 없음)
+        private boolean written;
+
+        private ChunkWriter(User user, OutputStream out) {
+            this.user = user;
+            this.out = out;
+        }
+
+        private void add(TodoSaveRequest request) throws IOException {
+            if (request == null) {
+                addInvalid("일정이 비어 있습니다.");
+                return;
+            }
+
+            BatchItem item = new BatchItem(index++, request);
+            Set<ConstraintViolation<TodoSaveRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                ConstraintViolation<TodoSaveRequest> violation = violations.iterator().next();
+                item.invalid(violation.getPropertyPath() + " " + violation.getMessage());
+            }
+            append(item);
+        }
+
+        private void addInvalid(String message) throws IOException {
+            BatchItem item = new BatchItem(index++, null);
+            item.invalid(message);
+            append(item);
+        }
+
+        private void append(BatchItem item) throws IOException {
+            chunk.add(item);
+            if (chunk.size() == CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            List<BatchItem> valid = chunk.stream().filter(item -> item.status == null).toList();
+
+            if (!valid.isEmpty()) {
+                // 외부 API 호출이 있을 수 있으므로 트랜잭션 밖에서 먼저 조회
+                boolean deferred = isWeatherDeferred();
+                for (BatchItem item : valid) {
+                    LocalDate plannedDate = item.request.getPlannedDate();
+                    if (!deferred && !weathers.containsKey(plannedDate)) {
+                        weathers.put(plannedDate, fetchWeather(plannedDate, unavailableDates));
+                    }
+                    item.todo = new Todo(
+                            item.request.getTitle(),
+                            item.request.getContents(),
+                            deferred ? null : weathers.get(plannedDate),
+                            plannedDate,
+                            user
+                    );
+                    if (!deferred && unavailableDates.contains(plannedDate)) {
+                        item.todo.markWeatherUnavailable();
+                    }
+                }
+
+                transactionTemplate.executeWithoutResult(status -> {
+                    todoRepository.saveAll(valid.stream().map(item -> item.todo).toList());
+                    todoRepository.flush();
+                    // 요청 동안 열려 있는 영속성 컨텍스트에 chunk 마다 일정이 쌓이지 않도록 비움
+                    entityManager.clear();
+                    // chunk 가 커밋된 뒤에 전송됨
+                    valid.forEach(item -> eventPublisher.publishEvent(
+                            TodoChangeEvent.todo(TodoChangeType.CREATED, item.todo.getId())));
+                });
+                valid.forEach(item -> item.status = TodoBatchStatus.CREATED);
+                created += valid.size();
+            }
+
+            for (BatchItem item : chunk) {
+                TodoBatchResult result = item.todo != null
+                        ? new TodoBatchResult(item.index, item.status, item.todo.getId(), item.todo.getWeatherStatus(), null)
+                        : new TodoBatchResult(item.index, item.status, null, null, item.message);
+                if (item.status == TodoBatchStatus.INVALID) {
+                    invalid++;
+                }
+                writeLine(result);
+            }
+            out.flush();
+            chunk.clear();
+        }
+
+        private void finish(boolean completed, String message) throws IOException {
+            writeLine(new TodoBatchSummary(completed, created, invalid, message));
+            out.flush();
+        }
+
+        private void writeLine(Object value) throws IOException {
+            // writeValue(OutputStream) 는 스트림을 닫으므로 byte 배열로 직렬화해서 씀
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+            written = true;
+        }
+    }
+
+    private static class BatchItem {
+
+        private final long index;
+        private final TodoSaveRequest request;
+        private Todo todo;
+        private TodoBatchStatus status;
+        private String message;
+
+        private BatchItem(long index, TodoSaveRequest request) {
+            this.index = index;
+            this.request = request;
+        }
+
+        private void invalid(String message) {
+            this.status = TodoBatchStatus.INVALID;
+            this.message = message;
+        }
+    }
+}
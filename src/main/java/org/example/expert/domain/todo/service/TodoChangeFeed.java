@@ -0,0 +1,320 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.config.TodoEventProperties;
+import org.example.expert.domain.todo.event.TodoChangeEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정/댓글/담당자 변경 이벤트를 SSE 구독자에게 보낸다.
+ *
+ * 연결은 Servlet async 로 유지되므로 대기 중인 구독자는 스레드를 점유하지 않는다.
+ * 이벤트는 커밋된 스레드에서 구독자별 고정 크기 버퍼에 넣기만 하고, 실제 전송은 senderThreads 개의 스레드가 나눠서 한다.
+ * 버퍼가 넘친 느린 구독자에게는 resync 이벤트를 보내고 연결을 끊으며, 클라이언트는 다시 연결한 뒤 목록을 새로 조회한다.
+ * 한 번의 전송이 sendTimeout 보다 오래 막히면 그 구독자를 끊고, 막힌 스레드 대신 전송 스레드를 하나 더 띄워 다른 구독자의 전송이 밀리지 않게 한다.
+ * (막힌 쓰기는 server.tomcat.connection-timeout 이 지나야 실패하고, 그때 늘린 스레드를 다시 줄임)
+ *
+ * 이벤트 id 는 프로세스 안에서만 증가하고 지난 이벤트를 보관하지 않으므로,
+ * 다시 연결할 때 Last-Event-ID 가 마지막으로 보낸 id 와 다르면 놓친 이벤트가 있다고 보고 resync 부터 보낸다.
+ */
+@Slf4j
+@Component
+public class TodoChangeFeed {
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESYNC_EVENT = "resync";
+    static final int MAX_TODO_IDS = 100;
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final TodoEventProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lastEventId = new AtomicLong();
+    private final Executor sender;
+
+    private final Counter droppedCounter;
+    private final Counter stalledCounter;
+
+    @Autowired
+    public TodoChangeFeed(TodoEventProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        // 구독자마다 대기 중인 전송 작업은 최대 한 개이므로 작업 큐는 구독자 수를 넘지 않음
+        this(properties, objectMapper, meterRegistry, new ThreadPoolExecutor(
+                properties.getSenderThreads(),
+                properties.getSenderThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("todo-events-")
+        ));
+    }
+
+    TodoChangeFeed(TodoEventProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry, Executor sender) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.sender = sender;
+
+        this.droppedCounter = meterRegistry.counter("todo.events.dropped_subscribers", "reason", "buffer_full");
+        this.stalledCounter = meterRegistry.counter("todo.events.dropped_subscribers", "reason", "send_timeout");
+        Gauge.builder("todo.events.subscribers", subscribers, Set::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param todoIds     비어 있으면 모든 일정, 있으면 해당 일정의 이벤트만 받는다
+     *                    (일정 조회 API 가 로그인한 사용자 모두에게 모든 일정을 보여주므로 사용자별로 따로 거르지 않음)
+     * @param lastEventId 다시 연결할 때 EventSource 가 보내는 Last-Event-ID, 처음 연결이면 null
+     */
+    public SseEmitter subscribe(long userId, Collection<Long> todoIds, String lastEventId) {
+        if (todoIds.size() > MAX_TODO_IDS) {
+            throw new InvalidRequestException("todoIds 는 최대 " + MAX_TODO_IDS + " 개까지 지정할 수 있습니다.");
+        }
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new ServiceUnavailableException("실시간 변경 알림 연결이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(userId, Set.copyOf(todoIds), emitter, properties.getBufferSize());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        // 응답 헤더가 바로 전송되도록 첫 줄을 보냄
+        long currentId = this.lastEventId.get();
+        subscriber.buffer.offer(SseEmitter.event().id(String.valueOf(currentId)).comment("connected").build());
+        if (lastEventId != null && !lastEventId.equals(String.valueOf(currentId))) {
+            subscriber.buffer.offer(resyncEvent(currentId));
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 롤백된 변경은 보내지 않도록 커밋된 뒤에 실행하고, 트랜잭션 밖에서 발행된 이벤트는 바로 보낸다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(TodoChangeEvent event) {
+        // 구독자가 없어도 id 는 올려야 그 사이에 끊겨 있던 클라이언트가 다시 연결할 때 resync 를 받음
+        long id = lastEventId.incrementAndGet();
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        Set<DataWithMediaType> message;
+        try {
+            // 구독자마다 직렬화하지 않도록 한 번만 직렬화해서 공유
+            message = SseEmitter.event()
+                    .id(String.valueOf(id))
+                    .name(CHANGE_EVENT)
+                    .data(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(event)) {
+                enqueue(subscriber, message);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.events.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, HEARTBEAT);
+        }
+    }
+
+    /**
+     * 전송 중인 emitter 는 막힌 스레드가 잠그고 있어 complete() 도 함께 막히므로, 구독만 끊고 전송 스레드를 하나 더 띄운다.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void checkStalledSends() {
+        long now = System.nanoTime();
+        long sendTimeoutNanos = properties.getSendTimeout().toNanos();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.writing.get()
+                    && now - subscriber.writeStartedAt > sendTimeoutNanos
+                    && subscriber.writing.compareAndSet(true, false)) {
+                subscribers.remove(subscriber);
+                stalledCounter.increment();
+                log.info("변경 알림 전송이 {} 이상 막힌 구독자 연결 종료: userId={}", properties.getSendTimeout(), subscriber.userId);
+                resizeSender(1);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> message) {
+        if (subscriber.dropping.get()) {
+            return;
+        }
+        if (!subscriber.buffer.offer(message) && subscriber.dropping.compareAndSet(false, true)) {
+            // 쌓인 이벤트를 버리고 resync 만 보낸 뒤 연결을 끊음
+            droppedCounter.increment();
+            log.info("변경 알림을 따라오지 못하는 구독자 연결 종료: userId={}", subscriber.userId);
+            subscriber.buffer.clear();
+            subscriber.buffer.offer(resyncEvent(lastEventId.get()));
+            subscriber.resyncQueued = true;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.sending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> send(subscriber));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            subscriber.sending.set(false);
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            // resyncQueued 를 먼저 읽고 버퍼를 비워야 resync 를 보내기 전에 연결을 끊지 않음
+            boolean closing;
+            do {
+                closing = subscriber.resyncQueued;
+                Set<DataWithMediaType> message;
+                while ((message = subscriber.buffer.poll()) != null) {
+                    if (!write(subscriber, message)) {
+                        return;
+                    }
+                }
+            } while (!closing && subscriber.resyncQueued);
+
+            if (closing) {
+                subscribers.remove(subscriber);
+                subscriber.emitter.complete();
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 emitter, 정리는 Servlet 컨테이너의 오류 콜백에서도 함
+            subscribers.remove(subscriber);
+            return;
+        } finally {
+            subscriber.sending.set(false);
+        }
+
+        // poll 이 끝난 뒤 sending 을 풀기 전에 들어온 이벤트
+        if (!subscriber.buffer.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * @return checkStalledSends() 가 전송 도중 구독자를 끊었다면 false
+     */
+    private boolean write(Subscriber subscriber, Set<DataWithMediaType> message) throws IOException {
+        subscriber.writeStartedAt = System.nanoTime();
+        subscriber.writing.set(true);
+        boolean stalled;
+        try {
+            subscriber.emitter.send(message);
+        } finally {
+            // writing 을 먼저 false 로 바꾼 쪽이 결과를 처리함, 감시 쪽이 먼저 바꿨다면 이 스레드 대신 늘린 스레드를 줄임
+            stalled = !subscriber.writing.compareAndSet(true, false);
+            if (stalled) {
+                resizeSender(-1);
+            }
+        }
+
+        if (stalled) {
+            // 쓰기가 늦게라도 끝났다면 끊긴 동안 놓친 이벤트가 있으므로 연결을 닫아 다시 연결하게 함
+            subscriber.emitter.complete();
+        }
+        return !stalled;
+    }
+
+    private void resizeSender(int delta) {
+        if (!(sender instanceof ThreadPoolExecutor pool)) {
+            return;
+        }
+        synchronized (pool) {
+            // 항상 core <= max 를 유지하도록 늘릴 때는 max 부터, 줄일 때는 core 부터 바꿈
+            if (delta > 0) {
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+            } else {
+                pool.setCorePoolSize(pool.getCorePoolSize() + delta);
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+
+    private static Set<DataWithMediaType> resyncEvent(long id) {
+        return SseEmitter.event().id(String.valueOf(id)).name(RESYNC_EVENT).data("{}").build();
+    }
+
+    private static class Subscriber {
+
+        private final long userId;
+        private final Set<Long> todoIds;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // 버퍼가 넘쳐 resync 후 연결을 끊는 중, 새 이벤트는 버림
+        private final AtomicBoolean dropping = new AtomicBoolean();
+        // resync 가 버퍼에 들어간 뒤에 true
+        private volatile boolean resyncQueued;
+        // emitter.send() 를 호출하는 동안 true, 시작 시각은 writing 보다 먼저 기록함
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private volatile long writeStartedAt;
+
+        private Subscriber(long userId, Set<Long> todoIds, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.todoIds = todoIds;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean accepts(TodoChangeEvent event) {
+            return todoIds.isEmpty() || todoIds.contains(event.getTodoId());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoExportRow;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 모든 일정을 작성자 이메일과 함께 내보낸다.
+ * DB 에서 fetch size 단위로 읽은 행을 바로 응답에 쓰므로 일정 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+
+    static final String CSV_HEADER = "id,title,contents,weather,weatherStatus,plannedDate,userEmail,createdAt,modifiedAt";
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 내보낸 일정 수
+     */
+    @Transactional(readOnly = true)
+    public long export(TodoExportFormat format, OutputStream out) throws IOException {
+        long exported;
+        try (Stream<TodoExportRow> rows = todoRepository.streamAllForExport()) {
+            exported = format == TodoExportFormat.CSV
+                    ? writeCsv(rows.iterator(), out)
+                    : writeNdjson(rows.iterator(), out);
+        }
+
+        log.info("일정 내보내기 완료: {} 건 ({})", exported, format);
+        return exported;
+    }
+
+    private long writeNdjson(Iterator<TodoExportRow> rows, OutputStream out) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        long count = 0;
+        while (rows.hasNext()) {
+            // writeValue(OutputStream) 는 스트림을 닫으므로 byte 배열로 직렬화해서 씀
+            buffered.write(objectMapper.writeValueAsBytes(rows.next()));
+            buffered.write('\n');
+            count++;
+        }
+        buffered.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<TodoExportRow> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long count = 0;
+        while (rows.hasNext()) {
+            TodoExportRow row = rows.next();
+            writer.write(String.valueOf(row.getId()));
+            writeCsvValue(writer, row.getTitle());
+            writeCsvValue(writer, row.getContents());
+            writeCsvValue(writer, row.getWeather());
+            writeCsvValue(writer, row.getWeatherStatus());
+            writeCsvValue(writer, row.getPlannedDate());
+            writeCsvValue(writer, row.getUserEmail());
+            writeCsvValue(writer, row.getCreatedAt());
+            writeCsvValue(writer, row.getModifiedAt());
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    // 구분자, 큰따옴표, 줄바꿈이 있는 값만 RFC 4180 규칙으로 감쌈, null 은 빈 값
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
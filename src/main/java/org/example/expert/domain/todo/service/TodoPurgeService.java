@@ -0,0 +1,92 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.config.TodoPurgeProperties;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 삭제된 일정의 댓글과 담당자를 chunk 단위 DELETE 로 지운 뒤 일정 행을 지운다.
+ * chunk 마다 별도 트랜잭션이라 잠금이 짧고, 한 번에 maxChunksPerRun 번까지만 지워 DB 부하를 제한한다.
+ * 처리할 대상은 매번 DB 에서 조회하므로 애플리케이션이 재시작되어도 남은 일정은 이어서 처리된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoPurgeService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TodoPurgeProperties todoPurgeProperties;
+
+    @Scheduled(fixedDelayString = "${todo.purge.interval:PT10S}")
+    public void purgePeriodically() {
+        try {
+            int purged = purge();
+            if (purged > 0) {
+                log.info("삭제된 일정 {} 건 정리 완료", purged);
+            }
+        } catch (RuntimeException e) {
+            log.warn("삭제된 일정 정리 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 댓글과 담당자를 모두 지우고 행까지 삭제한 일정 수
+     */
+    public int purge() {
+        ChunkBudget budget = new ChunkBudget(todoPurgeProperties.getMaxChunksPerRun());
+        int purged = 0;
+
+        for (Long todoId : todoRepository.findDeletedIds(todoPurgeProperties.getScanSize())) {
+            boolean done = deleteChildren(todoId, budget, commentRepository::findIdsByTodoId, commentRepository::deleteAllByIdIn)
+                    && deleteChildren(todoId, budget, managerRepository::findIdsByTodoId, managerRepository::deleteAllByIdIn);
+            if (!done) {
+                // 남은 것은 다음 주기에 이어서 처리
+                break;
+            }
+            purged += todoRepository.purgeDeleted(todoId);
+        }
+        return purged;
+    }
+
+    /**
+     * @return 모두 지웠으면 true, 이번 실행의 DELETE 횟수를 다 써서 남아 있을 수 있으면 false
+     */
+    private boolean deleteChildren(Long todoId, ChunkBudget budget,
+                                   BiFunction<Long, Limit, List<Long>> findIds,
+                                   Function<List<Long>, Integer> deleteAll) {
+        int chunkSize = todoPurgeProperties.getChunkSize();
+        while (budget.remaining > 0) {
+            List<Long> ids = findIds.apply(todoId, Limit.of(chunkSize));
+            if (ids.isEmpty()) {
+                return true;
+            }
+            deleteAll.apply(ids);
+            budget.remaining--;
+            if (ids.size() < chunkSize) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class ChunkBudget {
+
+        private int remaining;
+
+        private ChunkBudget(int remaining) {
+            this.remaining = remaining;
+        }
+    }
+}
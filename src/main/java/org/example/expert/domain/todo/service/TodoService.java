@@ -1,22 +1,45 @@
 package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.config.TodoWeatherProperties;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoChangeType;
+import org.example.expert.domain.todo.event.TodoChangeEvent;
+import org.example.expert.domain.todo.repository.TodoChildCount;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoVersion;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -24,60 +47,174 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoWeatherProperties todoWeatherProperties;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
+    /**
+     * 날씨 조회는 외부 API 호출이 발생할 수 있으므로 트랜잭션 밖에서 먼저 수행한다.
+     * DB 커넥션은 todoRepository.save() 의 트랜잭션 안에서 insert 하는 동안에만 점유된다.
+     * DEFERRED 모드에서는 날씨를 조회하지 않고 PENDING 상태로 저장한다. (TodoWeatherBackfillService 에서 채움)
+     * 예정일이 있으면 그 날짜의 날씨를 저장한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
-
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
                 todoSaveRequest.getContents(),
-                weather,
+                null,
+                todoSaveRequest.getPlannedDate(),
                 user
         );
+        if (!isWeatherDeferred()) {
+            fillWeather(newTodo);
+        }
         Todo savedTodo = todoRepository.save(newTodo);
+        eventPublisher.publishEvent(TodoChangeEvent.todo(TodoChangeType.CREATED, savedTodo.getId()));
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
                 savedTodo.getContents(),
-                weather,
+                savedTodo.getWeather(),
+                savedTodo.getWeatherStatus(),
+                savedTodo.getPlannedDate(),
                 new UserResponse(user.getId(), user.getEmail())
         );
     }
 
+    /**
+     * 일정을 삭제 상태로만 바꾸고 바로 반환한다. 댓글과 담당자는 TodoPurgeService 가 나눠서 지운다.
+     */
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        todo.delete(LocalDateTime.now());
+        eventPublisher.publishEvent(TodoChangeEvent.todo(TodoChangeType.DELETED, todoId));
+    }
+
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        Page<TodoResponse> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        applyCounts(todos.getContent());
+        return todos;
+    }
+
+    /**
+     * (modifiedAt, id) 기준 cursor 페이지네이션. 페이지 깊이와 관계없이 인덱스에서 size + 1 건만 읽고 COUNT 쿼리는 실행하지 않는다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 빈 문자열
+     */
+    public TodoCursorResponse getTodos(String cursor, int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+
+        TodoCursor after = TodoCursor.decode(cursor);
+        // 다음 페이지가 있는지 알기 위해 한 건 더 조회
+        Limit limit = Limit.of(size + 1);
+        List<TodoResponse> todos = after == null
+                ? todoRepository.findFirstPage(limit)
+                : todoRepository.findPageAfter(after.getModifiedAt(), after.getId(), limit);
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> page = hasNext ? todos.subList(0, size) : todos;
+        applyCounts(page);
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = page.get(page.size() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new TodoCursorResponse(page, nextCursor);
     }
 
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
+        TodoResponse todo = todoRepository.findResponseById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        applyCounts(List.of(todo));
+        return todo;
+    }
 
-        User user = todo.getUser();
-
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
+    public ResourceVersion getTodoVersion(long todoId) {
+        TodoVersion version = todoRepository.findVersionById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        return ResourceVersion.of(
+                todoId,
+                version.getModifiedAt(),
+                version.getCommentCount(),
+                version.getCommentModifiedAt(),
+                version.getManagerCount(),
+                version.getManagerMaxId()
         );
     }
+
+    /**
+     * 일정마다 댓글/담당자 수를 조회하지 않고, 페이지의 일정 id 로 각각 GROUP BY 쿼리 한 번씩만 실행한다.
+     */
+    private void applyCounts(List<TodoResponse> todos) {
+        if (todos.isEmpty()) {
+            return;
+        }
+
+        List<Long> todoIds = todos.stream().map(TodoResponse::getId).toList();
+        Map<Long, Long> commentCounts = toMap(commentRepository.countByTodoIds(todoIds));
+        Map<Long, Long> managerCounts = toMap(managerRepository.countByTodoIds(todoIds));
+
+        for (TodoResponse todo : todos) {
+            todo.applyCounts(
+                    commentCounts.getOrDefault(todo.getId(), 0L),
+                    managerCounts.getOrDefault(todo.getId(), 0L)
+            );
+        }
+    }
+
+    private static Map<Long, Long> toMap(List<TodoChildCount> counts) {
+        Map<Long, Long> map = new HashMap<>(counts.size() * 2);
+        for (TodoChildCount count : counts) {
+            map.put(count.getTodoId(), count.getCount());
+        }
+        return map;
+    }
+
+    /**
+     * 날씨 데이터는 월/일 기준이므로 예정일의 연도와 관계없이 같은 날짜의 날씨를 사용한다.
+     * 날씨 데이터에 예정일(예: 02-29)이 없으면 다시 조회해도 알 수 없으므로 UNAVAILABLE 로 저장한다.
+     */
+    private void fillWeather(Todo todo) {
+        LocalDate plannedDate = todo.getPlannedDate();
+        if (plannedDate == null) {
+            todo.resolveWeather(weatherClient.getTodayWeather());
+            return;
+        }
+
+        String weather;
+        try {
+            weather = weatherClient.findWeather(plannedDate);
+        } catch (ServerException e) {
+            // 예정일 날씨를 지금 알 수 없으면 PENDING 으로 저장하고 백그라운드에서 채움
+            log.warn("예정일({}) 날씨를 가져오지 못해 나중에 채웁니다: {}", plannedDate, e.getMessage());
+            return;
+        }
+
+        if (weather == null) {
+            todo.markWeatherUnavailable();
+        } else {
+            todo.resolveWeather(weather);
+        }
+    }
+
+    private boolean isWeatherDeferred() {
+        return todoWeatherProperties.getMode() == TodoWeatherProperties.Mode.DEFERRED;
+    }
 }
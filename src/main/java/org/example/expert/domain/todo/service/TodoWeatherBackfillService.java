@@ -0,0 +1,150 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.config.TodoWeatherProperties;
+import org.example.expert.domain.todo.enums.TodoChangeType;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.event.TodoChangeEvent;
+import org.example.expert.domain.todo.repository.PendingWeatherTodo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PENDING 상태로 저장된 일정의 날씨를 백그라운드에서 채운다.
+ * 처리할 대상은 매번 DB 에서 조회하므로 애플리케이션이 재시작되어도 남은 일정은 다시 처리된다.
+ */
+@Slf4j
+@Service
+public class TodoWeatherBackfillService {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TodoWeatherProperties todoWeatherProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    // 스케줄러 스레드에서만 접근
+    private int consecutiveFailures;
+    private Instant nextAttemptAt = Instant.MIN;
+
+    @Autowired
+    public TodoWeatherBackfillService(TodoRepository todoRepository, WeatherClient weatherClient, TodoWeatherProperties todoWeatherProperties,
+                                      ApplicationEventPublisher eventPublisher) {
+        this(todoRepository, weatherClient, todoWeatherProperties, eventPublisher, Clock.systemDefaultZone());
+    }
+
+    TodoWeatherBackfillService(TodoRepository todoRepository, WeatherClient weatherClient, TodoWeatherProperties todoWeatherProperties,
+                               ApplicationEventPublisher eventPublisher, Clock clock) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.todoWeatherProperties = todoWeatherProperties;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.weather.backfill.interval:PT5S}")
+    public void backfillPeriodically() {
+        if (clock.instant().isBefore(nextAttemptAt)) {
+            return;
+        }
+
+        try {
+            backfill();
+            consecutiveFailures = 0;
+            nextAttemptAt = Instant.MIN;
+        } catch (RuntimeException e) {
+            consecutiveFailures++;
+            Duration backoff = getBackoff(consecutiveFailures);
+            nextAttemptAt = clock.instant().plus(backoff);
+            log.warn("일정 날씨 채우기 실패 ({}회 연속), {} 후 재시도: {}", consecutiveFailures, backoff, e.getMessage());
+        }
+    }
+
+    /**
+     * PENDING 일정을 batchSize 만큼 읽어 날씨 기준 날짜(예정일, 없으면 생성일)별로 묶고, 날짜마다 한 번의 UPDATE 로 날씨를 채운다.
+     * 날씨 데이터에 없는 날짜의 일정은 UNAVAILABLE 로 바꿔 다음 배치에서 다시 읽지 않는다.
+     * 한 날짜의 조회가 실패해도 나머지 날짜는 계속 처리하고, 모든 날짜가 실패했을 때만 예외를 던진다. (날씨 API 장애로 보고 백오프)
+     *
+     * @return RESOLVED 로 바뀐 일정 수
+     */
+    public int backfill() {
+        List<PendingWeatherTodo> pendingTodos = todoRepository.findByWeatherStatus(
+                WeatherStatus.PENDING,
+                PageRequest.of(0, todoWeatherProperties.getBackfill().getBatchSize())
+        );
+
+        Map<LocalDate, List<Long>> todoIdsByDate = groupByWeatherDate(pendingTodos);
+        int resolved = 0;
+        ServerException lastFailure = null;
+        int failures = 0;
+        for (Map.Entry<LocalDate, List<Long>> entry : todoIdsByDate.entrySet()) {
+            String weather;
+            try {
+                weather = weatherClient.findWeather(entry.getKey());
+            } catch (ServerException e) {
+                // 실패한 날짜의 일정은 PENDING 으로 남아 다음 배치에서 다시 처리됨
+                log.warn("{} 날씨를 가져오지 못했습니다: {}", entry.getKey(), e.getMessage());
+                lastFailure = e;
+                failures++;
+                continue;
+            }
+
+            if (weather == null) {
+                log.info("{} 날씨 데이터가 없어 일정 {}개를 날씨 없이 확정합니다.", entry.getKey(), entry.getValue().size());
+                todoRepository.markPendingWeatherUnavailable(entry.getValue());
+            } else {
+                resolved += todoRepository.updatePendingWeather(entry.getValue(), weather);
+            }
+            // UPDATE 는 이미 커밋되었으므로 바로 전송됨
+            entry.getValue().forEach(todoId -> eventPublisher.publishEvent(TodoChangeEvent.todo(TodoChangeType.UPDATED, todoId)));
+        }
+
+        if (failures > 0 && failures == todoIdsByDate.size()) {
+            throw lastFailure;
+        }
+        return resolved;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    private Map<LocalDate, List<Long>> groupByWeatherDate(List<PendingWeatherTodo> pendingTodos) {
+        LocalDate today = LocalDate.now(clock);
+        Map<LocalDate, List<Long>> todoIdsByDate = new LinkedHashMap<>();
+        for (PendingWeatherTodo pendingTodo : pendingTodos) {
+            LocalDate date = getWeatherDate(pendingTodo, today);
+            todoIdsByDate.computeIfAbsent(date, key -> new ArrayList<>()).add(pendingTodo.getId());
+        }
+        return todoIdsByDate;
+    }
+
+    private LocalDate getWeatherDate(PendingWeatherTodo pendingTodo, LocalDate today) {
+        if (pendingTodo.getPlannedDate() != null) {
+            return pendingTodo.getPlannedDate();
+        }
+        return pendingTodo.getCreatedAt() != null ? pendingTodo.getCreatedAt().toLocalDate() : today;
+    }
+
+    private Duration getBackoff(int failures) {
+        TodoWeatherProperties.Backfill backfill = todoWeatherProperties.getBackfill();
+        // 2^(failures - 1) 배, shift 가 넘치지 않도록 지수를 제한
+        Duration backoff = backfill.getInitialBackoff().multipliedBy(1L << Math.min(failures - 1, 20));
+        return backoff.compareTo(backfill.getMaxBackoff()) > 0 ? backfill.getMaxBackoff() : backoff;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.user.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRequest {
+
+    private String email;
+    private String password;
+    private String userRole;
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.user.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserImportStatus;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportResult {
+
+    // 입력 파일의 줄 번호 (1부터 시작, CSV 헤더 포함)
+    private final long line;
+    private final String email;
+    private final UserImportStatus status;
+    private final String message;
+
+    public UserImportResult(long line, String email, UserImportStatus status, String message) {
+        this.line = line;
+        this.email = email;
+        this.status = status;
+        this.message = message;
+    }
+}
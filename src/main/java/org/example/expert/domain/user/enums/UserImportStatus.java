@@ -0,0 +1,7 @@
+package org.example.expert.domain.user.enums;
+
+public enum UserImportStatus {
+    CREATED, DUPLICATE, INVALID,
+    // 형식은 올바르지만 중복 이메일이 아닌 다른 제약(길이 등)에 걸려 저장하지 못한 행
+    FAILED
+}
@@ -0,0 +1,37 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.JDBCException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * users 테이블에 저장하다 발생한 제약 위반 중 중복 이메일(uk_users_email)과 그 밖의 위반(기본 키, NOT NULL, 길이 등)을 구분한다.
+ */
+public final class UserConstraintViolations {
+
+    private UserConstraintViolations() {
+    }
+
+    // DB 마다 제약 이름 앞뒤에 스키마, 테이블, 인덱스 정보가 붙으므로 포함 여부로 비교
+    public static boolean isEmailUniqueViolation(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException cause
+                && cause.getConstraintName() != null
+                && cause.getConstraintName().toLowerCase(Locale.ROOT).contains(User.EMAIL_UNIQUE_CONSTRAINT);
+    }
+
+    /**
+     * 응답에 SQL 문이나 값이 드러나지 않도록 제약 이름 또는 SQLState 만 설명으로 사용한다.
+     */
+    public static String describe(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException cause && cause.getConstraintName() != null) {
+            return "제약 조건 위반 (" + cause.getConstraintName() + ")";
+        }
+        if (e.getCause() instanceof JDBCException cause && cause.getSQLState() != null) {
+            return "데이터 오류 (SQLState " + cause.getSQLState() + ")";
+        }
+        return "데이터 오류";
+    }
+}
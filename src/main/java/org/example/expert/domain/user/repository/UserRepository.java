@@ -1,15 +1,37 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 
-    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.id = :userId AND u.userRole = 'ADMIN'")
-    boolean existsByIdAndRole(Long userId);
+    @Query("SELECT u.userRole FROM User u WHERE u.id = :userId")
+    Optional<UserRole> findUserRoleById(Long userId);
+
+    // 조건부 조회(ETag, Last-Modified)용
+    @Query("SELECT u.modifiedAt FROM User u WHERE u.id = :userId")
+    Optional<LocalDateTime> findModifiedAtById(@Param("userId") Long userId);
+
+    // 이메일 Bloom filter 초기화용, 트랜잭션 안에서 사용해야 함
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
+    // 대량 가입 시 chunk 단위로 이미 가입된 이메일을 한 번에 확인
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
 }
@@ -0,0 +1,126 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일의 Bloom filter.
+ * mightContain() 이 false 이면 가입되지 않은 이메일이 확실하므로 회원가입 시 DB 중복 확인을 생략할 수 있다.
+ * true 는 "있을 수도 있음" 이므로 DB 로 확인해야 하며, 최종 판단은 항상 users.email 의 unique 제약이 한다.
+ */
+@Slf4j
+@Component
+public class EmailBloomFilter {
+
+    private final UserRepository userRepository;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private final Counter definitelyNewCounter;
+    private final Counter maybeCounter;
+
+    // 시작할 때 기존 이메일을 모두 넣기 전까지는 모든 이메일을 "있을 수도 있음" 으로 응답
+    private volatile boolean loaded;
+
+    public EmailBloomFilter(UserRepository userRepository,
+                            @Value("${user.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${user.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+
+        // m = -n ln(p) / (ln 2)^2, k = m/n ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+
+        this.definitelyNewCounter = meterRegistry.counter("user.email_filter.checks", "result", "definitely_new");
+        this.maybeCounter = meterRegistry.counter("user.email_filter.checks", "result", "maybe");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long[] count = {0};
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(email -> {
+                put(email);
+                count[0]++;
+            });
+        }
+        loaded = true;
+        log.info("이메일 Bloom filter 초기화 완료: {} 건, {} bits, hash {} 개", count[0], bitCount, hashCount);
+    }
+
+    public boolean mightContain(String email) {
+        if (!loaded) {
+            maybeCounter.increment();
+            return true;
+        }
+
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = indexOf(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                definitelyNewCounter.increment();
+                return false;
+            }
+        }
+        maybeCounter.increment();
+        return true;
+    }
+
+    public void put(String email) {
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = indexOf(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    private long indexOf(int combinedHash) {
+        // 음수가 나오지 않도록 부호 비트를 제거
+        return (combinedHash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    // 대소문자만 다른 이메일은 같은 값으로 취급 (false positive 가 될 뿐 false negative 는 생기지 않음)
+    private static long hash(String email) {
+        String normalized = email.toLowerCase(Locale.ROOT);
+        // FNV-1a 64bit
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
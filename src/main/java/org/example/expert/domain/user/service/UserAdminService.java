@@ -1,6 +1,7 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
@@ -14,10 +15,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final UserRoleCache userRoleCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        // 권한이 낮아진 경우에도 다음 관리자 API 요청부터 바로 반영되도록 캐시를 비움
+        userRoleCache.invalidate(userId);
+        // 이전 권한이 담긴 토큰은 더 이상 사용할 수 없도록 함
+        tokenRevocationService.revokeAll(userId);
     }
 }
@@ -0,0 +1,304 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserImportRequest;
+import org.example.expert.domain.user.dto.response.UserImportResult;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserImportStatus;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserConstraintViolations;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CSV 또는 NDJSON 으로 받은 사용자 목록을 chunk 단위로 가입시킨다.
+ * 입력을 한 줄씩 읽고 chunk 마다 결과를 바로 응답에 쓰므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ *
+ * chunk 마다
+ * 1. 형식 검사, 파일 안의 중복 이메일 검사
+ * 2. 이미 가입된 이메일을 IN 쿼리 한 번으로 확인
+ * 3. 비밀번호를 bcrypt 스레드 풀에서 병렬로 해시
+ * 4. JPA batch insert (id 는 pooled sequence 로 미리 할당되므로 hibernate.jdbc.batch_size 단위로 전송되고,
+ *    제약에 걸리면 해당 chunk 만 한 건씩 다시 insert 하여, 동시 가입과 겹친 이메일은 DUPLICATE, 그 밖의 위반은 FAILED 로 응답)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+
+    static final int CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param out 한 줄에 하나씩 UserImportResult 를 NDJSON 으로 쓴다
+     * @return 가입된 사용자 수
+     */
+    public long importUsers(InputStream in, MediaType contentType, OutputStream out) throws IOException {
+        boolean csv = TEXT_CSV.isCompatibleWith(contentType);
+        if (!csv && !MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            throw new InvalidRequestException("text/csv 또는 application/x-ndjson 형식만 지원합니다.");
+        }
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Map<String, Integer> csvColumns = csv ? readCsvHeader(reader) : null;
+        long lineNumber = csv ? 1 : 0;
+        long created = 0;
+
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!StringUtils.hasText(line)) {
+                continue;
+            }
+            chunk.add(csv ? parseCsvRow(lineNumber, line, csvColumns) : parseJsonRow(lineNumber, line));
+
+            if (chunk.size() == CHUNK_SIZE) {
+                created += processChunk(chunk, out);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += processChunk(chunk, out);
+        }
+
+        log.info("사용자 대량 가입 완료: {} 명", created);
+        return created;
+    }
+
+    private long processChunk(List<ImportRow> chunk, OutputStream out) throws IOException {
+        // 1. 형식 검사와 파일 안의 중복 검사
+        Set<String> emailsInChunk = new HashSet<>();
+        List<ImportRow> candidates = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (row.result != null) {
+                continue;
+            }
+            if (!emailsInChunk.add(row.email)) {
+                row.result = UserImportStatus.DUPLICATE;
+                row.message = "파일 안에 같은 이메일이 있습니다.";
+                continue;
+            }
+            candidates.add(row);
+        }
+
+        // 2. 이미 가입된 이메일을 한 번의 쿼리로 확인
+        if (!candidates.isEmpty()) {
+            Set<String> existing = new HashSet<>(userRepository.findEmailsIn(emailsInChunk));
+            candidates.removeIf(row -> {
+                if (existing.contains(row.email)) {
+                    row.result = UserImportStatus.DUPLICATE;
+                    row.message = "이미 존재하는 이메일입니다.";
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        // 3. 비밀번호 병렬 해시
+        if (!candidates.isEmpty()) {
+            List<String> hashes = passwordEncoder.encodeAll(candidates.stream().map(row -> row.password).toList());
+            for (int i = 0; i < candidates.size(); i++) {
+                candidates.get(i).encodedPassword = hashes.get(i);
+            }
+
+            // 4. batch insert
+            insert(candidates);
+        }
+
+        long created = 0;
+        for (ImportRow row : chunk) {
+            if (row.result == UserImportStatus.CREATED) {
+                emailBloomFilter.put(row.email);
+                created++;
+            }
+            // writeValue(OutputStream) 는 스트림을 닫으므로 byte 배열로 직렬화해서 씀
+            out.write(objectMapper.writeValueAsBytes(new UserImportResult(row.line, row.email, row.result, row.message)));
+            out.write('\n');
+        }
+        out.flush();
+        return created;
+    }
+
+    private void insert(List<ImportRow> rows) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(rows.stream().map(ImportRow::toUser).toList());
+                userRepository.flush();
+                // 요청 동안 열려 있는 영속성 컨텍스트에 chunk 마다 사용자가 쌓이지 않도록 비움
+                entityManager.clear();
+            });
+            rows.forEach(row -> row.result = UserImportStatus.CREATED);
+        } catch (DataIntegrityViolationException e) {
+            // 확인한 뒤에 다른 요청이 같은 이메일로 가입한 경우, 어느 행인지 알기 위해 한 건씩 다시 시도
+            for (ImportRow row : rows) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        userRepository.saveAndFlush(row.toUser());
+                        entityManager.clear();
+                    });
+                    row.result = UserImportStatus.CREATED;
+                } catch (DataIntegrityViolationException violation) {
+                    if (UserConstraintViolations.isEmailUniqueViolation(violation)) {
+                        row.result = UserImportStatus.DUPLICATE;
+                        row.message = "이미 존재하는 이메일입니다.";
+                    } else {
+                        log.warn("사용자 가져오기 {} 번째 줄 저장 실패: {}", row.line, violation.getMessage());
+                        row.result = UserImportStatus.FAILED;
+                        row.message = "저장하지 못했습니다: " + UserConstraintViolations.describe(violation);
+                    }
+                }
+            }
+        }
+    }
+
+    private Map<String, Integer> readCsvHeader(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            throw new InvalidRequestException("CSV 헤더가 없습니다.");
+        }
+
+        List<String> columns = splitCsvLine(header);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            indexes.put(columns.get(i).trim(), i);
+        }
+        for (String required : List.of("email", "password", "userRole")) {
+            if (!indexes.containsKey(required)) {
+                throw new InvalidRequestException("CSV 헤더에 " + required + " 컬럼이 없습니다.");
+            }
+        }
+        return indexes;
+    }
+
+    private ImportRow parseCsvRow(long lineNumber, String line, Map<String, Integer> columns) {
+        List<String> values = splitCsvLine(line);
+        return toRow(lineNumber, new UserImportRequest(
+                valueAt(values, columns.get("email")),
+                valueAt(values, columns.get("password")),
+                valueAt(values, columns.get("userRole"))
+        ));
+    }
+
+    private ImportRow parseJsonRow(long lineNumber, String line) {
+        try {
+            return toRow(lineNumber, objectMapper.readValue(line, UserImportRequest.class));
+        } catch (JsonProcessingException e) {
+            return ImportRow.invalid(lineNumber, null, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private ImportRow toRow(long lineNumber, UserImportRequest request) {
+        String email = request.getEmail() != null ? request.getEmail().trim() : null;
+        if (!StringUtils.hasText(email) || !email.contains("@")) {
+            return ImportRow.invalid(lineNumber, email, "이메일 형식이 올바르지 않습니다.");
+        }
+        if (!StringUtils.hasText(request.getPassword())) {
+            return ImportRow.invalid(lineNumber, email, "비밀번호가 없습니다.");
+        }
+
+        UserRole userRole;
+        try {
+            userRole = UserRole.of(request.getUserRole());
+        } catch (InvalidRequestException e) {
+            return ImportRow.invalid(lineNumber, email, e.getMessage());
+        }
+        return new ImportRow(lineNumber, email, request.getPassword(), userRole);
+    }
+
+    private static String valueAt(List<String> values, int index) {
+        return index < values.size() ? values.get(index) : null;
+    }
+
+    /**
+     * RFC 4180 의 큰따옴표 규칙만 처리하는 단순한 CSV 한 줄 파서 (줄바꿈이 포함된 값은 지원하지 않음)
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static class ImportRow {
+
+        private final long line;
+        private final String email;
+        private final String password;
+        private final UserRole userRole;
+        private String encodedPassword;
+        private UserImportStatus result;
+        private String message;
+
+        private ImportRow(long line, String email, String password, UserRole userRole) {
+            this.line = line;
+            this.email = email;
+            this.password = password;
+            this.userRole = userRole;
+        }
+
+        private User toUser() {
+            return new User(email, encodedPassword, userRole);
+        }
+
+        private static ImportRow invalid(long line, String email, String message) {
+            ImportRow row = new ImportRow(line, email, null, null);
+            row.result = UserImportStatus.INVALID;
+            row.message = message;
+            return row;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AdminApiInterceptor 가 요청마다 DB 에서 권한을 확인하지 않도록 userId 별 권한을 메모리에 보관한다.
+ *
+ * 권한이 바뀌면 version 을 올리고 캐시를 비운다.
+ * DB 조회를 시작한 뒤 version 이 바뀌었다면 조회 결과가 오래된 값일 수 있으므로 캐시에 넣지 않는다.
+ * 변경 트랜잭션이 커밋되기 전에 다시 조회된 값이 남지 않도록 커밋 후에 한 번 더 비운다.
+ */
+@Component
+public class UserRoleCache {
+
+    private final UserRepository userRepository;
+    private final int maxSize;
+
+    private final Map<Long, UserRole> roles = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer invalidationTimer;
+
+    public UserRoleCache(UserRepository userRepository,
+                         @Value("${admin.role-cache.max-size:10000}") int maxSize,
+                         MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.maxSize = maxSize;
+        this.hitCounter = meterRegistry.counter("user.role.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("user.role.cache.requests", "result", "miss");
+        this.invalidationTimer = Timer.builder("user.role.cache.invalidation")
+                .description("권한 변경 요청부터 커밋 후 캐시를 비울 때까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("user.role.cache.size", roles, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return DB 기준 사용자 권한, 사용자가 없으면 null
+     */
+    public UserRole getRole(Long userId) {
+        UserRole cached = roles.get(userId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        long versionBeforeLoad = version.get();
+        UserRole loaded = userRepository.findUserRoleById(userId).orElse(null);
+
+        if (loaded != null && roles.size() < maxSize && version.get() == versionBeforeLoad) {
+            roles.put(userId, loaded);
+            // put 하는 사이에 권한이 바뀌었다면 방금 넣은 값을 다시 제거
+            if (version.get() != versionBeforeLoad) {
+                roles.remove(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    public boolean isAdmin(Long userId) {
+        return UserRole.ADMIN.equals(getRole(userId));
+    }
+
+    /**
+     * 권한 변경 트랜잭션 안에서 호출한다. 즉시 캐시를 비우고, 트랜잭션이 커밋되면 한 번 더 비운다.
+     */
+    public void invalidate(Long userId) {
+        evict(userId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        long requestedAt = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+                invalidationTimer.record(System.nanoTime() - requestedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    private void evict(Long userId) {
+        version.incrementAndGet();
+        roles.remove(userId);
+    }
+}
@@ -2,6 +2,8 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
@@ -10,12 +12,15 @@ import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
 
     @Transactional(readOnly = true)
     public UserResponse getUser(long userId) {
@@ -23,20 +28,31 @@ public class UserService {
         return new UserResponse(user.getId(), user.getEmail());
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getUserVersion(long userId) {
+        LocalDateTime modifiedAt = userRepository.findModifiedAtById(userId)
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
+        return ResourceVersion.of(modifiedAt, userId, modifiedAt);
+    }
+
     @Transactional
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
-            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
-        }
-
+        // bcrypt 검증은 기존 비밀번호에 대해 한 번만 수행
         if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
+        // 기존 비밀번호가 일치했으므로 새 비밀번호가 같은지는 평문끼리 비교
+        if (userChangePasswordRequest.getNewPassword().equals(userChangePasswordRequest.getOldPassword())) {
+            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
+        }
+
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        // 기존 비밀번호로 발급된 토큰은 더 이상 사용할 수 없도록 함
+        tokenRevocationService.revokeAll(userId);
     }
 }
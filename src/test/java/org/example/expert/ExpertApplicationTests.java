@@ -1,13 +1,29 @@
 package org.example.expert;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 
-@SpringBootTest
+import static org.assertj.core.api.Assertions.assertThat;
+
+// jwt.secret.key 는 로컬 설정 파일에만 있으므로 테스트용 키를 지정 (32 byte 0 을 base64 인코딩한 값)
+@SpringBootTest(properties = "jwt.secret.key=AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA=")
 class ExpertApplicationTests {
 
+    @Autowired private ApplicationContext applicationContext;
+
     @Test
     void contextLoads() {
     }
 
+    @DisplayName("OSIV 가 꺼져 있어 요청 동안 EntityManager 가 DB 커넥션을 붙잡지 않는다")
+    @Test
+    void givenApplicationYml_whenContextLoads_thenOpenInViewDisabled() {
+        // when & then
+        assertThat(applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
 }
@@ -0,0 +1,485 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class WeatherClientTest {
+
+    private HttpServer stubServer;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private volatile int upstreamStatus = 200;
+    private volatile long upstreamDelayMillis = 0;
+    // null 이 아니면 ETag 를 내려주고, If-None-Match 가 일치하면 304 로 응답
+    private volatile String upstreamEtag;
+    private volatile String lastIfNoneMatch;
+    // null 이 아니면 기본 날씨 데이터 대신 응답
+    private volatile String upstreamFeed;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherProperties weatherProperties;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.createContext("/f-api/weather.json", exchange -> {
+            upstreamCalls.incrementAndGet();
+            sleep(upstreamDelayMillis);
+            lastIfNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            if (upstreamEtag != null) {
+                exchange.getResponseHeaders().add("ETag", upstreamEtag);
+                if (upstreamEtag.equals(lastIfNoneMatch)) {
+                    exchange.sendResponseHeaders(304, -1);
+                    exchange.close();
+                    return;
+                }
+            }
+            String feed = upstreamFeed != null ? upstreamFeed : createFeed("Sunny");
+            byte[] body = feed.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(upstreamStatus, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        stubServer.start();
+
+        weatherProperties = new WeatherProperties();
+        weatherProperties.setBaseUrl("http://localhost:" + stubServer.getAddress().getPort());
+        weatherProperties.setReadTimeout(Duration.ofMillis(500));
+        weatherProperties.getCircuitBreaker().setFailureThreshold(2);
+        weatherProperties.getCircuitBreaker().setOpenDuration(Duration.ofMinutes(1));
+        weatherProperties.getBulkhead().setMaxConcurrentCalls(1);
+        weatherProperties.getBulkhead().setMaxWait(Duration.ZERO);
+
+        meterRegistry = new SimpleMeterRegistry();
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), weatherProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        weatherClient.close();
+        stubServer.stop(0);
+    }
+
+    @DisplayName("날씨 스냅샷 캐시")
+    @Nested
+    class snapshot {
+
+        @DisplayName("유효한 스냅샷이 있으면 외부 API 를 다시 호출하지 않는다")
+        @Test
+        void givenValidSnapshot_whenGetTodayWeather_thenNoUpstreamCall() {
+            // given
+            weatherClient.refresh();
+
+            // when
+            String first = weatherClient.getTodayWeather();
+            String second = weatherClient.getTodayWeather();
+
+            // then
+            assertThat(first).isEqualTo("Sunny");
+            assertThat(second).isEqualTo("Sunny");
+            assertThat(upstreamCalls.get()).isEqualTo(1);
+            assertThat(meterRegistry.counter("weather.snapshot.requests", "result", "hit").count()).isEqualTo(2);
+        }
+
+        @DisplayName("스냅샷이 없으면 외부 API 에서 내려받은 뒤 응답한다")
+        @Test
+        void givenNoSnapshot_whenGetTodayWeather_thenFetchOnce() {
+            // when
+            String weather = weatherClient.getTodayWeather();
+
+            // then
+            assertThat(weather).isEqualTo("Sunny");
+            assertThat(upstreamCalls.get()).isEqualTo(1);
+            assertThat(meterRegistry.counter("weather.snapshot.requests", "result", "miss").count()).isEqualTo(1);
+            assertThat(meterRegistry.get("weather.snapshot.age").gauge().value()).isGreaterThanOrEqualTo(0);
+        }
+    }
+
+    @DisplayName("조건부 요청")
+    @Nested
+    class conditionalGet {
+
+        @DisplayName("304 응답이면 이전에 파싱한 인덱스를 재사용한다")
+        @Test
+        void givenUnchangedFeed_whenRefresh_thenReuseIndex() {
+            // given
+            upstreamEtag = "\"v1\"";
+            WeatherSnapshot first = weatherClient.refresh();
+
+            // when
+            WeatherSnapshot second = weatherClient.refresh();
+
+            // then
+            assertThat(lastIfNoneMatch).isEqualTo("\"v1\"");
+            assertThat(second.getIndex()).isSameAs(first.getIndex());
+            assertThat(second.getFetchedAt()).isAfterOrEqualTo(first.getFetchedAt());
+            assertThat(weatherClient.getTodayWeather()).isEqualTo("Sunny");
+            assertThat(meterRegistry.counter("weather.snapshot.not_modified").count()).isEqualTo(1);
+            assertThat(upstreamCalls.get()).isEqualTo(2);
+        }
+
+        @DisplayName("ETag 가 바뀌면 본문을 다시 내려받는다")
+        @Test
+        void givenChangedFeed_whenRefresh_thenParseNewBody() {
+            // given
+            upstreamEtag = "\"v1\"";
+            WeatherSnapshot first = weatherClient.refresh();
+            upstreamEtag = "\"v2\"";
+
+            // when
+            WeatherSnapshot second = weatherClient.refresh();
+
+            // then
+            assertThat(second.getIndex()).isNotSameAs(first.getIndex());
+            assertThat(second.getEtag()).isEqualTo("\"v2\"");
+            assertThat(meterRegistry.counter("weather.snapshot.not_modified").count()).isZero();
+        }
+    }
+
+    @DisplayName("날짜 지정 조회")
+    @Nested
+    class weatherByDate {
+
+        @DisplayName("오늘 스냅샷에서 다른 날짜의 날씨를 바로 찾는다")
+        @Test
+        void givenValidSnapshot_whenGetWeatherOfOtherDate_thenNoUpstreamCall() {
+            // given
+            weatherClient.refresh();
+
+            // when
+            String weather = weatherClient.getWeather(LocalDate.now().plusDays(1));
+
+            // then
+            assertThat(weather).isEqualTo("Cloudy");
+            assertThat(upstreamCalls.get()).isEqualTo(1);
+        }
+
+        @DisplayName("날씨 데이터가 없는 날짜는 대체 값 없이 예외가 발생한다")
+        @Test
+        void givenDateNotInFeed_whenGetWeather_thenThrowServerException() {
+            // given
+            weatherClient.refresh();
+
+            // when & then
+            assertThatThrownBy(() -> weatherClient.getWeather(LocalDate.now().plusDays(2)))
+                    .isInstanceOf(ServerException.class);
+            assertThat(meterRegistry.counter("weather.fallbacks").count()).isZero();
+        }
+
+        @DisplayName("날씨 데이터에 없는 날짜는 예외 없이 null 을 반환한다")
+        @Test
+        void givenDateNotInFeed_whenFindWeather_thenReturnNull() {
+            // given
+            weatherClient.refresh();
+
+            // when & then
+            assertThat(weatherClient.findWeather(LocalDate.now().plusDays(1))).isEqualTo("Cloudy");
+            assertThat(weatherClient.findWeather(LocalDate.now().plusDays(2))).isNull();
+        }
+
+        @DisplayName("날씨 데이터를 가져오지 못하면 findWeather 도 예외가 발생한다")
+        @Test
+        void givenUpstreamFailure_whenFindWeather_thenThrowServerException() {
+            // given
+            upstreamStatus = 500;
+
+            // when & then
+            assertThatThrownBy(() -> weatherClient.findWeather(LocalDate.now()))
+                    .isInstanceOf(ServerException.class);
+        }
+    }
+
+    @DisplayName("HTTP 전송 계층")
+    @Nested
+    class transport {
+
+        @DisplayName("모든 전송 계층에서 날씨 데이터를 내려받을 수 있다")
+        @ParameterizedTest
+        @EnumSource(WeatherHttpTransport.Type.class)
+        void givenTransportType_whenRefresh_thenFetchSnapshot(WeatherHttpTransport.Type type) {
+            // given
+            weatherProperties.getTransport().setType(type);
+            // 첫 요청의 클래스 로딩과 HTTP/2 upgrade 시도가 부하 상황에서 read timeout 에 걸리지 않도록 함
+            weatherProperties.setReadTimeout(Duration.ofSeconds(5));
+            WeatherClient client = new WeatherClient(new RestTemplateBuilder(), weatherProperties, new SimpleMeterRegistry());
+
+            // when
+            WeatherSnapshot fetched = client.refresh();
+
+            // then
+            assertThat(fetched.findWeather(LocalDate.now())).isEqualTo("Sunny");
+            client.close();
+        }
+
+        @DisplayName("APACHE 전송 계층은 커넥션을 풀에 반납하고 재사용한다")
+        @Test
+        void givenApacheTransport_whenRefreshRepeatedly_thenReuseKeepAliveConnection() {
+            // when
+            for (int i = 0; i < 3; i++) {
+                weatherClient.refresh();
+            }
+
+            // then
+            assertThat(meterRegistry.get("weather.http.pool.connections").tag("state", "leased").gauge().value()).isZero();
+            assertThat(meterRegistry.get("weather.http.pool.connections").tag("state", "available").gauge().value()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("외부 API 장애 대응")
+    @Nested
+    class resilience {
+
+        @DisplayName("외부 API 가 실패하고 알려진 날씨가 없다면 Unknown 을 반환한다")
+        @Test
+        void givenUpstreamError_whenGetTodayWeather_thenReturnUnknown() {
+            // given
+            upstreamStatus = 500;
+
+            // when
+            String weather = weatherClient.getTodayWeather();
+
+            // then
+            assertThat(weather).isEqualTo(WeatherClient.UNKNOWN_WEATHER);
+            assertThat(meterRegistry.counter("weather.fallbacks").count()).isEqualTo(1);
+        }
+
+        @DisplayName("유효한 스냅샷에 오늘 날짜가 없으면 예외 대신 대체 값을 반환한다")
+        @Test
+        void givenValidSnapshotWithoutToday_whenGetTodayWeather_thenReturnFallback() {
+            // given
+            String tomorrow = LocalDate.now().plusDays(1).format(DateTimeFormatter.ofPattern("MM-dd"));
+            upstreamFeed = "[{\"date\":\"" + tomorrow + "\",\"weather\":\"Cloudy\"}]";
+            weatherClient.refresh();
+
+            // when
+            String weather = weatherClient.getTodayWeather();
+
+            // then
+            assertThat(weather).isEqualTo(WeatherClient.UNKNOWN_WEATHER);
+            assertThat(upstreamCalls.get()).isEqualTo(1);
+            assertThat(meterRegistry.counter("weather.snapshot.requests", "result", "hit").count()).isEqualTo(1);
+            assertThat(meterRegistry.counter("weather.fallbacks").count()).isEqualTo(1);
+        }
+
+        @DisplayName("외부 API 가 실패하면 날짜가 지난 스냅샷의 날씨로 대체한다")
+        @Test
+        void givenStaleSnapshotAndUpstreamError_whenGetTodayWeather_thenReturnLastKnownGood() {
+            // given
+            WeatherSnapshot fetched = weatherClient.refresh();
+            ReflectionTestUtils.setField(weatherClient, "snapshot", new WeatherSnapshot(
+                    LocalDate.now().minusDays(1), fetched.getIndex(), Instant.now()));
+            upstreamStatus = 503;
+
+            // when
+            String weather = weatherClient.getTodayWeather();
+
+            // then
+            assertThat(weather).isEqualTo("Sunny");
+            assertThat(upstreamCalls.get()).isEqualTo(2);
+        }
+
+        @DisplayName("연속 실패 횟수가 임계치에 도달하면 회로가 열려 외부 API 를 호출하지 않는다")
+        @Test
+        void givenRepeatedFailures_whenGetTodayWeather_thenCircuitOpensAndFailsFast() {
+            // given
+            upstreamStatus = 500;
+
+            // when
+            for (int i = 0; i < 5; i++) {
+                weatherClient.getTodayWeather();
+            }
+
+            // then
+            assertThat(weatherClient.getCircuitState()).isEqualTo(WeatherCircuitBreaker.State.OPEN);
+            assertThat(upstreamCalls.get()).isEqualTo(2);
+            assertThat(meterRegistry.counter("weather.upstream.rejections", "reason", "circuit_open").count()).isEqualTo(3);
+        }
+
+        @DisplayName("응답이 read timeout 보다 늦으면 기다리지 않고 대체 값을 반환한다")
+        @Test
+        void givenSlowUpstream_whenGetTodayWeather_thenTimeoutAndFallback() {
+            // given
+            upstreamDelayMillis = 2_000;
+
+            // when
+            long start = System.nanoTime();
+            String weather = weatherClient.getTodayWeather();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // then
+            assertThat(weather).isEqualTo(WeatherClient.UNKNOWN_WEATHER);
+            assertThat(elapsedMillis).isLessThan(1_500);
+        }
+
+        @DisplayName("동시 호출 수가 bulkhead 한도를 넘으면 기다리지 않고 실패한다")
+        @Test
+        void givenBulkheadFull_whenRefresh_thenRejectImmediately() {
+            // given
+            // 호출이 진행 중인 동안 확인할 수 있도록 지연은 read timeout(500ms) 안에서 길게, polling 은 짧게
+            upstreamDelayMillis = 300;
+            CompletableFuture<WeatherSnapshot> inFlight = CompletableFuture.supplyAsync(weatherClient::refresh);
+            await().atMost(Duration.ofSeconds(2)).pollInterval(Duration.ofMillis(10)).until(() -> upstreamCalls.get() == 1);
+
+            // when & then
+            assertThatThrownBy(() -> weatherClient.refresh())
+                    .isInstanceOf(ServerException.class)
+                    .hasMessage("동시에 처리할 수 있는 날씨 API 호출 수를 초과했습니다.");
+            assertThat(meterRegistry.counter("weather.upstream.rejections", "reason", "bulkhead_full").count()).isEqualTo(1);
+            assertThat(inFlight.join().findWeather(LocalDate.now())).isEqualTo("Sunny");
+        }
+    }
+
+    @DisplayName("동시 요청 합치기")
+    @Nested
+    class singleFlight {
+
+        @DisplayName("스냅샷이 없을 때 동시에 날씨를 조회해도 외부 API 는 한 번만 호출된다")
+        @Test
+        void givenConcurrentGetTodayWeather_whenSnapshotMissing_thenSingleUpstreamCall() throws Exception {
+            // given
+            int concurrency = 32;
+            upstreamDelayMillis = 200;
+
+            CountDownLatch startGate = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    return weatherClient.getTodayWeather();
+                }));
+            }
+
+            // when
+            startGate.countDown();
+
+            // then
+            for (Future<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("Sunny");
+            }
+            executor.shutdown();
+
+            assertThat(upstreamCalls.get()).isEqualTo(1);
+            assertThat(meterRegistry.counter("weather.upstream.rejections", "reason", "bulkhead_full").count()).isZero();
+        }
+
+        @DisplayName("같은 key 로 진행 중인 호출이 있으면 작업을 다시 수행하지 않고 그 결과를 함께 받는다")
+        @Test
+        void givenInFlightCall_whenJoined_thenShareResult() throws Exception {
+            // given
+            SingleFlight<String, String> flight = new SingleFlight<>();
+            AtomicInteger executions = new AtomicInteger();
+            CountDownLatch leaderStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flight.execute("key", () -> {
+                executions.incrementAndGet();
+                leaderStarted.countDown();
+                awaitLatch(release);
+                return "Sunny";
+            }));
+            leaderStarted.await();
+
+            CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> flight.execute("key", () -> {
+                executions.incrementAndGet();
+                return "never";
+            }));
+            await().atMost(Duration.ofSeconds(2)).until(() -> flight.getCoalescedCount() == 1);
+
+            // when
+            release.countDown();
+
+            // then
+            assertThat(leader.get(2, TimeUnit.SECONDS)).isEqualTo("Sunny");
+            assertThat(follower.get(2, TimeUnit.SECONDS)).isEqualTo("Sunny");
+            assertThat(executions.get()).isEqualTo(1);
+        }
+
+        @DisplayName("진행 중인 호출이 실패하면 합류한 요청도 같은 예외를 받는다")
+        @Test
+        void givenLeaderFails_whenJoined_thenShareError() throws Exception {
+            // given
+            SingleFlight<String, String> flight = new SingleFlight<>();
+            CountDownLatch leaderStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> flight.execute("key", () -> {
+                leaderStarted.countDown();
+                awaitLatch(release);
+                throw new ServerException("upstream down");
+            }));
+            leaderStarted.await();
+
+            CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> flight.execute("key", () -> "never"));
+            await().atMost(Duration.ofSeconds(2)).until(() -> flight.getCoalescedCount() == 1);
+
+            // when
+            release.countDown();
+
+            // then
+            assertThatThrownBy(follower::join).hasCauseInstanceOf(ServerException.class).hasMessageContaining("upstream down");
+            assertThatThrownBy(leader::join).hasCauseInstanceOf(ServerException.class);
+        }
+    }
+
+    private String createFeed(String weather) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        String today = LocalDate.now().format(formatter);
+        String tomorrow = LocalDate.now().plusDays(1).format(formatter);
+        return "[{\"date\":\"" + today + "\",\"weather\":\"" + weather + "\"},"
+                + "{\"date\":\"" + tomorrow + "\",\"weather\":\"Cloudy\"}]";
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
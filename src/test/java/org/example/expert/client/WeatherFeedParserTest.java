@@ -0,0 +1,122 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherFeedParserTest {
+
+    private final WeatherFeedParser parser = new WeatherFeedParser();
+
+    @DisplayName("피드 전체 인덱싱")
+    @Nested
+    class parseIndex {
+
+        @DisplayName("날짜별 날씨를 day-of-year 인덱스로 만든다")
+        @Test
+        void givenFeed_whenParseIndex_thenFindByDate() throws IOException {
+            // given
+            String feed = "[{\"date\":\"01-01\",\"weather\":\"Snowy\"},"
+                    + "{\"weather\":\"Rainy\",\"date\":\"02-29\"},"
+                    + "{\"date\":\"12-31\",\"extra\":{\"a\":[1,2]},\"weather\":\"Clear\"}]";
+
+            // when
+            WeatherIndex index = parser.parseIndex(toStream(feed));
+
+            // then
+            assertThat(index.size()).isEqualTo(3);
+            assertThat(index.find(LocalDate.of(2025, 1, 1))).isEqualTo("Snowy");
+            assertThat(index.find(LocalDate.of(2024, 2, 29))).isEqualTo("Rainy");
+            assertThat(index.find(LocalDate.of(2025, 12, 31))).isEqualTo("Clear");
+            assertThat(index.find(LocalDate.of(2025, 6, 1))).isNull();
+        }
+
+        @DisplayName("형식이 올바르지 않은 날짜는 무시한다")
+        @Test
+        void givenInvalidDate_whenParseIndex_thenSkipEntry() throws IOException {
+            // given
+            String feed = "[{\"date\":\"13-01\",\"weather\":\"Snowy\"},{\"date\":\"1-1\",\"weather\":\"Rainy\"}]";
+
+            // when
+            WeatherIndex index = parser.parseIndex(toStream(feed));
+
+            // then
+            assertThat(index.isEmpty()).isTrue();
+        }
+        @DisplayName("date 나 weather 가 객체나 배열이면 그 항목만 건너뛰고 이어서 읽는다")
+        @Test
+        void givenNestedValues_whenParseIndex_thenSkipEntryAndKeepReading() throws IOException {
+            // given
+            String feed = "[{\"date\":{\"date\":\"01-01\",\"weather\":\"Fake\"},\"weather\":\"Ignored\"},"
+                    + "{\"date\":[\"01-02\"],\"weather\":\"Ignored\"},"
+                    + "{\"date\":\"01-03\",\"weather\":{\"main\":\"Rainy\"}},"
+                    + "{\"date\":\"01-04\",\"weather\":\"Sunny\"}]";
+
+            // when
+            WeatherIndex index = parser.parseIndex(toStream(feed));
+
+            // then
+            assertThat(index.size()).isEqualTo(1);
+            assertThat(index.find(LocalDate.of(2025, 1, 1))).isNull();
+            assertThat(index.find(LocalDate.of(2025, 1, 4))).isEqualTo("Sunny");
+        }
+    }
+
+    @DisplayName("특정 날짜 조회")
+    @Nested
+    class findWeather {
+
+        @DisplayName("일치하는 항목을 찾으면 나머지 피드를 읽지 않고 반환한다")
+        @Test
+        void givenMatchBeforeMalformedTail_whenFindWeather_thenStopEarly() throws IOException {
+            // given: 일치하는 항목 뒤의 JSON 이 깨져 있어도 끝까지 읽지 않으므로 예외가 발생하지 않는다
+            String feed = "[{\"date\":\"03-01\",\"weather\":\"Windy\"},{\"date\":\"03-02\",\"weather\":\"Sunny\"},{broken";
+
+            // when
+            String weather = parser.findWeather(toStream(feed), 3, 2);
+
+            // then
+            assertThat(weather).isEqualTo("Sunny");
+        }
+
+        @DisplayName("앞 항목의 date 나 weather 가 객체면 건너뛰고 뒤에서 일치하는 항목을 찾는다")
+        @Test
+        void givenNestedValuesBeforeMatch_whenFindWeather_thenSkipAndFind() throws IOException {
+            // given
+            String feed = "[{\"date\":{\"date\":\"03-02\",\"weather\":\"Fake\"}},"
+                    + "{\"date\":\"03-01\",\"weather\":{\"main\":\"Windy\"}},"
+                    + "{\"date\":\"03-02\",\"weather\":\"Sunny\"}]";
+
+            // when
+            String weather = parser.findWeather(toStream(feed), 3, 2);
+
+            // then
+            assertThat(weather).isEqualTo("Sunny");
+        }
+
+        @DisplayName("해당 날짜가 없으면 null 을 반환한다")
+        @Test
+        void givenNoMatch_whenFindWeather_thenReturnNull() throws IOException {
+            // given
+            String feed = "[{\"date\":\"03-01\",\"weather\":\"Windy\"}]";
+
+            // when
+            String weather = parser.findWeather(toStream(feed), 3, 2);
+
+            // then
+            assertThat(weather).isNull();
+        }
+    }
+
+    private InputStream toStream(String feed) {
+        return new ByteArrayInputStream(feed.getBytes(StandardCharsets.UTF_8));
+    }
+}
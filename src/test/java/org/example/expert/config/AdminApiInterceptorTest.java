@@ -1,9 +1,12 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.domain.comment.controller.CommentAdminController;
 import org.example.expert.domain.comment.service.CommentAdminService;
 import org.example.expert.domain.common.exception.UnauthorizedAdminAccessException;
+import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserRoleCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,15 +15,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CommentAdminController.class)
-@Import({AdminApiInterceptor.class, WebConfig.class})
+@Import({AdminApiInterceptor.class, WebConfig.class, UserRoleCache.class, SimpleMeterRegistry.class})
 class AdminApiInterceptorTest {
 
     @Autowired MockMvc mockMvc;
@@ -35,7 +41,7 @@ class AdminApiInterceptorTest {
         long commentId = 1L;
         long userId = 1L;
 
-        given(userRepository.existsByIdAndRole(userId)).willReturn(false);
+        given(userRepository.findUserRoleById(userId)).willReturn(Optional.of(UserRole.USER));
 
         // When & Then
         mockMvc.perform(delete("/admin/comments/{commentId}", commentId)
@@ -50,9 +56,9 @@ class AdminApiInterceptorTest {
     void userRole이_ADMIN인_유저는_Admin_API에_정상_접근할_수_있다() throws Exception {
         // Given
         long commentId = 1L;
-        long userId = 1L;
+        long userId = 2L;  // 테스트 간에 권한 캐시가 공유되므로 다른 사용자로 검증
 
-        given(userRepository.existsByIdAndRole(userId)).willReturn(true);
+        given(userRepository.findUserRoleById(userId)).willReturn(Optional.of(UserRole.ADMIN));
 
         // When & Then
         mockMvc.perform(delete("/admin/comments/{commentId}", commentId)
@@ -61,4 +67,24 @@ class AdminApiInterceptorTest {
 
         verify(commentAdminService).deleteComment(eq(commentId));
     }
+
+    @DisplayName("권한을 한 번 확인한 뒤에는 DB 를 다시 조회하지 않는다")
+    @Test
+    void 관리자_권한은_캐시되어_DB를_한번만_조회한다() throws Exception {
+        // Given
+        long commentId = 1L;
+        long userId = 3L;
+
+        given(userRepository.findUserRoleById(userId)).willReturn(Optional.of(UserRole.ADMIN));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(delete("/admin/comments/{commentId}", commentId)
+                            .requestAttr("userId", userId))
+                    .andExpect(status().isOk());
+        }
+
+        // Then
+        verify(userRepository, times(1)).findUserRoleById(userId);
+    }
 }
@@ -0,0 +1,54 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({IdSequenceInitializer.class, PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // ALTER SEQUENCE 는 트랜잭션을 커밋하므로 테스트 트랜잭션을 열지 않음
+class IdSequenceInitializerTest {
+
+    @Autowired private IdSequenceInitializer idSequenceInitializer;
+    @Autowired private UserRepository userRepository;
+    @Autowired private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("AUTO_INCREMENT 로 발급된 기존 id 가 있으면 시퀀스를 그 뒤로 옮겨 새 id 가 겹치지 않는다")
+    @Test
+    void givenLegacyRows_whenAlignSequences_thenNewIdsAfterMaxId() {
+        // given
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, ?, 'password', 'USER')",
+                    id, "legacy" + id + "@example.com");
+        }
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (1000, 'legacy@example.com', 'password', 'USER')");
+
+        // when
+        idSequenceInitializer.alignSequences("H2");
+        idSequenceInitializer.alignSequences("H2");
+        User saved = userRepository.save(new User("new@example.com", "password", UserRole.USER));
+
+        // then
+        assertThat(saved.getId()).isGreaterThan(1000L);
+        assertThat(userRepository.count()).isEqualTo(5);
+    }
+}
@@ -1,18 +1,38 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private PasswordEncoder passwordEncoder;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = createPasswordEncoder("4", 2, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.close();
+    }
+
     @Test
     void matches_메서드가_정상적으로_동작한다() {
         // given
@@ -24,5 +44,67 @@ class PasswordEncoderTest {
 
         // then
         assertThat(matches).isTrue();
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.queue").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void 대기열이_가득_차면_503_예외가_발생한다() {
+        // given
+        PasswordEncoder saturated = createPasswordEncoder("12", 1, 1);
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService requestThreads = Executors.newFixedThreadPool(4);
+
+        // when
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                awaitLatch(startGate);
+                return saturated.encode("password");
+            }, requestThreads));
+        }
+        startGate.countDown();
+
+        long rejected = futures.stream()
+                .filter(future -> {
+                    try {
+                        future.join();
+                        return false;
+                    } catch (CompletionException e) {
+                        return e.getCause() instanceof ServiceUnavailableException;
+                    }
+                })
+                .count();
+
+        // then
+        assertThat(rejected).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.counter("password.hash.rejections", "reason", "queue_full").count()).isEqualTo(rejected);
+        saturated.close();
+        requestThreads.shutdown();
+    }
+
+    @Test
+    void cost_를_auto_로_설정하면_목표_시간에_맞는_cost_를_찾는다() {
+        // when
+        int cost = PasswordEncoder.calibrateCost(Duration.ofMillis(1));
+
+        // then
+        assertThat(cost).isBetween(4, PasswordEncoder.MAX_AUTO_COST);
+    }
+
+    private PasswordEncoder createPasswordEncoder(String cost, int threads, int queueCapacity) {
+        PasswordEncoderProperties properties = new PasswordEncoderProperties();
+        properties.getBcrypt().setCost(cost);
+        properties.getExecutor().setThreads(threads);
+        properties.getExecutor().setQueueCapacity(queueCapacity);
+        return new PasswordEncoder(properties, meterRegistry);
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
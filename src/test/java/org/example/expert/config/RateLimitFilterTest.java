@@ -0,0 +1,164 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getGroups().put("auth", createGroup("/auth/**", 2));
+        properties.getGroups().put("default", createGroup("/**", 3));
+
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(meterRegistry, nanoTime::get);
+        rateLimitFilter = new RateLimitFilter(rateLimiter, properties, meterRegistry);
+    }
+
+    @DisplayName("요청 제한")
+    @Nested
+    class limit {
+
+        @DisplayName("제한을 넘은 요청은 429 와 Retry-After 헤더를 받는다")
+        @Test
+        void givenExceededLimit_whenRequest_thenTooManyRequests() throws Exception {
+            // given
+            for (int i = 0; i < 2; i++) {
+                assertThat(signin("10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+            }
+
+            // when
+            MockHttpServletResponse response = signin("10.0.0.1");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+            assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+            assertThat(meterRegistry.counter("http.rate_limit.rejections", "group", "auth").count()).isEqualTo(1);
+        }
+
+        @DisplayName("시간이 지나면 다시 요청할 수 있다")
+        @Test
+        void givenExceededLimit_whenEmissionIntervalElapsed_thenAllowAgain() throws Exception {
+            // given
+            signin("10.0.0.1");
+            signin("10.0.0.1");
+
+            // when
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+            // then
+            assertThat(signin("10.0.0.1").getStatus()).isEqualTo(HttpStatus.OK.value());
+            assertThat(signin("10.0.0.1").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        }
+    }
+
+    @DisplayName("요청 주체 구분")
+    @Nested
+    class key {
+
+        @DisplayName("인증이 없는 요청은 IP 별로 제한한다")
+        @Test
+        void givenDifferentIp_whenSignin_thenSeparateBuckets() throws Exception {
+            // given
+            signin("10.0.0.1");
+            signin("10.0.0.1");
+
+            // when & then
+            assertThat(signin("10.0.0.2").getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+
+        @DisplayName("인증된 요청은 같은 IP 라도 userId 별로 제한한다")
+        @Test
+        void givenDifferentUser_whenRequest_thenSeparateBuckets() throws Exception {
+            // given
+            for (int i = 0; i < 3; i++) {
+                getTodos(1L);
+            }
+
+            // when & then
+            assertThat(getTodos(1L).getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+            assertThat(getTodos(2L).getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+    }
+
+    @DisplayName("다 채워진 bucket 은 정리한다")
+    @Test
+    void givenRefilledBucket_whenEvictIdle_thenRemoved() throws Exception {
+        // given
+        signin("10.0.0.1");
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        // when
+        rateLimiter.evictIdle();
+
+        // then
+        assertThat(rateLimiter.size()).isZero();
+    }
+
+    @DisplayName("limit 이나 period 가 0 이하인 설정은 바인딩할 때 거절한다")
+    @ParameterizedTest
+    @CsvSource({"limit, 0", "limit, -1", "period, 0s", "period, -1m"})
+    void givenNonPositiveLimitOrPeriod_whenBind_thenFail(String property, String value) {
+        // given
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of("rate-limit.groups.auth." + property, value)));
+
+        // when & then
+        assertThatThrownBy(() -> binder.bind("rate-limit", RateLimitProperties.class))
+                .isInstanceOf(BindException.class)
+                .rootCause()
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MockHttpServletResponse signin(String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/signin");
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletResponse getTodos(Long userId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.setRemoteAddr("10.0.0.1");
+        request.setAttribute("userId", userId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private RateLimitProperties.Group createGroup(String pattern, int limit) {
+        RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setPatterns(List.of(pattern));
+        group.setLimit(limit);
+        group.setPeriod(Duration.ofMinutes(1));
+        return group;
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final long now = Instant.parse("2024-03-10T00:00:00Z").toEpochMilli();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("검증한 토큰은 만료 전까지 캐시에서 찾는다")
+    @Test
+    void givenVerifiedToken_whenGetBeforeExpiry_thenHit() {
+        // given
+        VerifiedTokenCache cache = createCache(10, now);
+        VerifiedToken verified = new VerifiedToken(1L, "a@a.com", "USER", now - 1000, now + 1000);
+        cache.put("token", verified);
+
+        // when
+        VerifiedToken cached = cache.get("token");
+
+        // then
+        assertThat(cached).isSameAs(verified);
+        assertThat(meterRegistry.counter("jwt.cache.requests", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @DisplayName("만료 시각이 지난 토큰은 캐시에서 제거한다")
+    @Test
+    void givenExpiredToken_whenGet_thenMissAndEvict() {
+        // given
+        VerifiedTokenCache cache = createCache(10, now);
+        cache.put("token", new VerifiedToken(1L, "a@a.com", "USER", now - 2000, now));
+
+        // when
+        VerifiedToken cached = cache.get("token");
+
+        // then
+        assertThat(cached).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @DisplayName("캐시가 가득 차면 만료 여부를 확인하지 않고 가장 먼저 넣은 토큰을 내보내고 새 토큰을 저장한다")
+    @Test
+    void givenFullCache_whenPut_thenEvictEldest() {
+        // given
+        VerifiedTokenCache cache = createCache(2, now);
+        cache.put("first", new VerifiedToken(1L, "a@a.com", "USER", now, now + 1000));
+        cache.put("second", new VerifiedToken(2L, "b@b.com", "USER", now, now + 1000));
+
+        // when
+        cache.put("third", new VerifiedToken(3L, "c@c.com", "USER", now, now + 1000));
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("first")).isNull();
+        assertThat(cache.get("second")).isNotNull();
+        assertThat(cache.get("third")).isNotNull();
+        assertThat(meterRegistry.counter("jwt.cache.evictions", "reason", "size").count()).isEqualTo(1);
+    }
+
+    @DisplayName("이미 제거된 토큰은 건너뛰고 남아 있는 토큰 중 가장 먼저 넣은 것을 내보낸다")
+    @Test
+    void givenRemovedEldest_whenPutIntoFullCache_thenEvictNextEldest() {
+        // given
+        VerifiedTokenCache cache = createCache(2, now);
+        cache.put("expired", new VerifiedToken(1L, "a@a.com", "USER", now - 2000, now));
+        cache.get("expired");
+        cache.put("second", new VerifiedToken(2L, "b@b.com", "USER", now, now + 1000));
+        cache.put("third", new VerifiedToken(3L, "c@c.com", "USER", now, now + 1000));
+
+        // when
+        cache.put("fourth", new VerifiedToken(4L, "d@d.com", "USER", now, now + 1000));
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("second")).isNull();
+        assertThat(cache.get("third")).isNotNull();
+        assertThat(cache.get("fourth")).isNotNull();
+    }
+
+    @DisplayName("주기적인 정리는 만료된 토큰만 제거한다")
+    @Test
+    void givenExpiredTokens_whenEvictExpired_thenOnlyValidRemain() {
+        // given
+        VerifiedTokenCache cache = createCache(10, now);
+        cache.put("expired", new VerifiedToken(1L, "a@a.com", "USER", now - 2000, now - 1));
+        cache.put("valid", new VerifiedToken(2L, "b@b.com", "USER", now, now + 1000));
+
+        // when
+        cache.evictExpired();
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("valid")).isNotNull();
+    }
+
+    private VerifiedTokenCache createCache(int maxSize, long nowMillis) {
+        return new VerifiedTokenCache(maxSize, meterRegistry, Clock.fixed(Instant.ofEpochMilli(nowMillis), ZoneOffset.UTC));
+    }
+}
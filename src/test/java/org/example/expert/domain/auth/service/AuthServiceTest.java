@@ -11,6 +11,8 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.EmailBloomFilter;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,13 +20,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +41,8 @@ class AuthServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private JwtUtil jwtUtil;
+    @Mock private EmailBloomFilter emailBloomFilter;
+    @Mock private TokenRevocationService tokenRevocationService;
 
     @DisplayName("회원가입")
     @Nested
@@ -55,9 +63,9 @@ class AuthServiceTest {
                     UserRole.USER
             );
 
-            given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(false);
+            given(emailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(false);
             given(passwordEncoder.encode(password)).willReturn(encodedPassword);
-            given(userRepository.save(any(User.class))).willReturn(user);
+            given(userRepository.saveAndFlush(any(User.class))).willReturn(user);
             given(jwtUtil.createToken(any(), any(), any())).willReturn(token);
 
             // when
@@ -67,6 +75,42 @@ class AuthServiceTest {
             assertThat(signupResponse.getBearerToken()).isEqualTo("token");
             verify(passwordEncoder).encode(password);
             verify(jwtUtil).createToken(any(), any(), any());
+            // Bloom filter 가 새 이메일이라고 판단하면 중복 확인 쿼리를 실행하지 않음
+            verify(userRepository, never()).existsByEmail(any());
+            verify(emailBloomFilter).put(signupRequest.getEmail());
+        }
+
+        @DisplayName("동시 가입으로 unique 제약에 걸리면 중복 이메일 예외로 변환")
+        @Test
+        void givenUniqueConstraintViolation_whenSave_thenThrowInvalidRequestException() {
+            // given
+            SignupRequest signupRequest = createSignupRequest();
+
+            given(emailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(false);
+            given(passwordEncoder.encode(any())).willReturn("encoded_password");
+            given(userRepository.saveAndFlush(any(User.class)))
+                    .willThrow(createViolation("PUBLIC.UK_USERS_EMAIL_INDEX_4"));
+
+            // when & then
+            assertThatThrownBy(() -> authService.signup(signupRequest))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("이미 존재하는 이메일입니다.");
+        }
+
+        @DisplayName("email unique 제약이 아닌 다른 제약 위반은 그대로 던진다")
+        @Test
+        void givenOtherConstraintViolation_whenSave_thenRethrow() {
+            // given
+            SignupRequest signupRequest = createSignupRequest();
+            DataIntegrityViolationException violation = createViolation("PUBLIC.PRIMARY_KEY_4");
+
+            given(emailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(false);
+            given(passwordEncoder.encode(any())).willReturn("encoded_password");
+            given(userRepository.saveAndFlush(any(User.class))).willThrow(violation);
+
+            // when & then
+            assertThatThrownBy(() -> authService.signup(signupRequest)).isSameAs(violation);
+            verify(emailBloomFilter, never()).put(any());
         }
 
         @DisplayName("이미 존재하는 이메일로 회원가입 시 예외 발생")
@@ -75,6 +119,7 @@ class AuthServiceTest {
             // given
             SignupRequest signupRequest = createSignupRequest();
 
+            given(emailBloomFilter.mightContain(any())).willReturn(true);
             given(userRepository.existsByEmail(any())).willReturn(true);
 
             // when & then
@@ -102,7 +147,8 @@ class AuthServiceTest {
 
             given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
             given(passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(true);
-            given(jwtUtil.createToken(any(), any(), any())).willReturn("token");
+            given(tokenRevocationService.nextIssuedAt(any())).willReturn(1_000L);
+            given(jwtUtil.createToken(any(), any(), any(), eq(1_000L))).willReturn("token");
 
             // when
             SigninResponse response = authService.signin(signinRequest);
@@ -147,4 +193,9 @@ class AuthServiceTest {
         return new SigninRequest("user1@example.com", "password");
     }
 
+    private DataIntegrityViolationException createViolation(String constraintName) {
+        ConstraintViolationException cause = new ConstraintViolationException(
+                "could not execute statement", new SQLException("Unique index or primary key violation", "23505"), constraintName);
+        return new DataIntegrityViolationException(cause.getMessage(), cause);
+    }
 }
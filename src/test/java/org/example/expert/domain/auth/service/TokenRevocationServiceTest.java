@@ -0,0 +1,158 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private final long now = Instant.parse("2024-03-10T00:00:00Z").toEpochMilli();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock private TokenRevocationRepository tokenRevocationRepository;
+    @Mock private Clock clock;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(tokenRevocationRepository, meterRegistry, clock);
+    }
+
+    @DisplayName("토큰 무효화")
+    @Nested
+    class revokeAll {
+
+        @DisplayName("기준 시각 이전에 발급된 토큰만 무효이다")
+        @Test
+        void givenRevokedUser_whenIsRevoked_thenOnlyOlderTokensRejected() {
+            // given
+            given(clock.millis()).willReturn(now);
+            given(tokenRevocationRepository.findById(1L)).willReturn(Optional.empty());
+
+            // when
+            tokenRevocationService.revokeAll(1L);
+
+            // then
+            ArgumentCaptor<TokenRevocation> captor = ArgumentCaptor.forClass(TokenRevocation.class);
+            verify(tokenRevocationRepository).save(captor.capture());
+            assertThat(captor.getValue().getRevokedAt()).isEqualTo(now);
+
+            assertThat(tokenRevocationService.isRevoked(1L, now - 1000)).isTrue();
+            assertThat(tokenRevocationService.isRevoked(1L, now)).isTrue();
+            assertThat(tokenRevocationService.isRevoked(1L, now + 1000)).isFalse();
+            assertThat(tokenRevocationService.isRevoked(2L, now - 1000)).isFalse();
+            assertThat(meterRegistry.counter("jwt.revocation.rejections").count()).isEqualTo(2);
+        }
+
+        @DisplayName("기준 시각은 iat 와 같은 초 단위로 내려 기록하고, 같은 초에 다시 로그인하면 다음 초로 발급한다")
+        @Test
+        void givenRevokedInSameSecond_whenNextIssuedAt_thenAfterWatermark() {
+            // given
+            given(clock.millis()).willReturn(now + 400);
+            given(tokenRevocationRepository.findById(1L)).willReturn(Optional.empty());
+            tokenRevocationService.revokeAll(1L);
+
+            // when
+            given(clock.millis()).willReturn(now + 700);
+            given(tokenRevocationRepository.findById(1L)).willReturn(Optional.of(new TokenRevocation(1L, now)));
+            long issuedAt = tokenRevocationService.nextIssuedAt(1L);
+
+            // then
+            assertThat(tokenRevocationService.isRevoked(1L, now)).isTrue();
+            assertThat(issuedAt).isEqualTo(now + 1000);
+            assertThat(tokenRevocationService.isRevoked(1L, issuedAt)).isFalse();
+        }
+
+        @DisplayName("기준 시각이 없거나 지난 초라면 현재 시각(초 단위)으로 발급한다")
+        @Test
+        void givenNoRecentRevocation_whenNextIssuedAt_thenNow() {
+            // given
+            given(clock.millis()).willReturn(now + 5_400);
+            given(tokenRevocationRepository.findById(1L)).willReturn(Optional.of(new TokenRevocation(1L, now)));
+            given(tokenRevocationRepository.findById(2L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThat(tokenRevocationService.nextIssuedAt(1L)).isEqualTo(now + 5_000);
+            assertThat(tokenRevocationService.nextIssuedAt(2L)).isEqualTo(now + 5_000);
+        }
+
+        @DisplayName("이미 기록이 있으면 기준 시각을 갱신한다")
+        @Test
+        void givenExistingRevocation_whenRevokeAll_thenUpdated() {
+            // given
+            TokenRevocation revocation = new TokenRevocation(1L, now - 5000);
+            given(clock.millis()).willReturn(now);
+            given(tokenRevocationRepository.findById(1L)).willReturn(Optional.of(revocation));
+
+            // when
+            tokenRevocationService.revokeAll(1L);
+
+            // then
+            assertThat(revocation.getRevokedAt()).isEqualTo(now);
+        }
+    }
+
+    @DisplayName("DB 에서 다시 읽기")
+    @Nested
+    class refresh {
+
+        @DisplayName("다른 서버에서 기록한 기준 시각을 반영한다")
+        @Test
+        void givenRevocationsInDb_whenRefresh_thenApplied() {
+            // given
+            given(clock.millis()).willReturn(now);
+            List<TokenRevocation> revocations = LongStream.rangeClosed(1, 100)
+                    .mapToObj(userId -> new TokenRevocation(userId, now - userId))
+                    .toList();
+            given(tokenRevocationRepository.findAllByRevokedAtGreaterThan(now - JwtUtil.TOKEN_TIME)).willReturn(revocations);
+
+            // when
+            tokenRevocationService.refresh();
+
+            // then
+            assertThat(tokenRevocationService.size()).isEqualTo(100);
+            assertThat(tokenRevocationService.isRevoked(37L, now - 37)).isTrue();
+            assertThat(tokenRevocationService.isRevoked(37L, now - 36)).isFalse();
+            assertThat(tokenRevocationService.isRevoked(101L, now - 1000)).isFalse();
+        }
+
+        @DisplayName("토큰 유효 시간이 지난 기준 시각은 메모리에서 제외한다")
+        @Test
+        void givenOldWatermark_whenTokenTimeElapsed_thenPruned() {
+            // given
+            given(clock.millis()).willReturn(now);
+            given(tokenRevocationRepository.findById(1L)).willReturn(Optional.empty());
+            tokenRevocationService.revokeAll(1L);
+
+            // when
+            given(clock.millis()).willReturn(now + JwtUtil.TOKEN_TIME);
+            given(tokenRevocationRepository.findAllByRevokedAtGreaterThan(anyLong())).willReturn(List.of());
+            tokenRevocationService.refresh();
+
+            // then
+            assertThat(tokenRevocationService.size()).isZero();
+        }
+    }
+}
@@ -1,13 +1,22 @@
 package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.enums.TodoChangeTarget;
+import org.example.expert.domain.todo.enums.TodoChangeType;
+import org.example.expert.domain.todo.event.TodoChangeEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -16,6 +25,7 @@ class CommentAdminServiceTest {
     @InjectMocks private CommentAdminService commentAdminService;
 
     @Mock private CommentRepository commentRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @DisplayName("[어드민 API] 댓글 삭제 성공")
     @Test
@@ -30,4 +40,24 @@ class CommentAdminServiceTest {
         verify(commentRepository).deleteById(commentId);
     }
 
+    @DisplayName("[어드민 API] 댓글을 삭제하면 해당 일정의 변경 알림을 발행한다")
+    @Test
+    void givenCommentId_whenDeleteComment_thenPublishChangeEvent() {
+        // given
+        long commentId = 1L;
+        long todoId = 10L;
+        given(commentRepository.findTodoIdById(commentId)).willReturn(Optional.of(todoId));
+
+        // when
+        commentAdminService.deleteComment(commentId);
+
+        // then
+        ArgumentCaptor<TodoChangeEvent> captor = ArgumentCaptor.forClass(TodoChangeEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getTarget()).isEqualTo(TodoChangeTarget.COMMENT);
+        assertThat(captor.getValue().getType()).isEqualTo(TodoChangeType.DELETED);
+        assertThat(captor.getValue().getTodoId()).isEqualTo(todoId);
+        assertThat(captor.getValue().getTargetId()).isEqualTo(commentId);
+    }
+
 }
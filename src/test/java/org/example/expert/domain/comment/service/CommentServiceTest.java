@@ -21,6 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,6 +37,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private CommentService commentService;
     
@@ -90,16 +93,14 @@ class CommentServiceTest {
             // given
             long todoId = 1L;
 
-            User user = new User("user1@example.com", "password", UserRole.USER);
-            Todo todo = new Todo("Title", "Contents", "Sunny", user);
-
-            List<Comment> commentList = List.of(
-                    new Comment("contents1", user, todo),
-                    new Comment("contents2", user, todo),
-                    new Comment("contents3", user, todo)
+            List<CommentResponse> commentList = List.of(
+                    new CommentResponse(1L, "contents1", 1L, "user1@example.com"),
+                    new CommentResponse(2L, "contents2", 1L, "user1@example.com"),
+                    new CommentResponse(3L, "contents3", 1L, "user1@example.com")
             );
 
-            given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+            given(todoRepository.existsById(todoId)).willReturn(true);
+            given(commentRepository.findResponsesByTodoId(todoId)).willReturn(commentList);
 
             // when
             List<CommentResponse> comments = commentService.getComments(todoId);
@@ -110,6 +111,19 @@ class CommentServiceTest {
             assertThat(comments.get(1).getContents()).isEqualTo("contents2");
             assertThat(comments.get(2).getContents()).isEqualTo("contents3");
         }
+
+        @DisplayName("일정이 없거나 삭제되었으면 예외 발생")
+        @Test
+        void givenDeletedTodo_whenFindComments_thenThrowInvalidRequestException() {
+            // given
+            long todoId = 1L;
+            given(todoRepository.existsById(todoId)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> commentService.getComments(todoId))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("Todo not found");
+        }
         
     }
     
@@ -0,0 +1,116 @@
+package org.example.expert.domain.common.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceVersionTest {
+
+    private final LocalDateTime modifiedAt = LocalDateTime.of(2024, 3, 10, 12, 0, 30);
+
+    @DisplayName("ETag")
+    @Nested
+    class eTag {
+
+        @DisplayName("버전을 이루는 값이 같으면 ETag 도 같고, 하나라도 다르면 ETag 가 다르다")
+        @Test
+        void givenParts_whenOf_thenETagDependsOnEveryPart() {
+            // when
+            ResourceVersion version = ResourceVersion.of(1L, modifiedAt, 2L, null);
+
+            // then
+            assertThat(version.getETag()).startsWith("W/\"").endsWith("\"");
+            assertThat(ResourceVersion.of(1L, modifiedAt, 2L, null).getETag()).isEqualTo(version.getETag());
+            assertThat(ResourceVersion.of(1L, modifiedAt, 3L, null).getETag()).isNotEqualTo(version.getETag());
+        }
+
+        @DisplayName("If-None-Match 가 현재 ETag 와 같으면 304 로 응답한다")
+        @Test
+        void givenMatchingIfNoneMatch_whenCheckNotModified_thenNotModified() {
+            // given
+            ResourceVersion version = ResourceVersion.of(1L, modifiedAt);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, version.getETag());
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            boolean notModified = version.checkNotModified(new ServletWebRequest(request, response));
+
+            // then
+            assertThat(notModified).isTrue();
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+            assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(version.getETag());
+        }
+
+        @DisplayName("If-None-Match 가 이전 ETag 이면 새 ETag 와 함께 본문을 응답한다")
+        @Test
+        void givenStaleIfNoneMatch_whenCheckNotModified_thenModified() {
+            // given
+            ResourceVersion version = ResourceVersion.of(1L, modifiedAt.plusSeconds(1));
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ResourceVersion.of(1L, modifiedAt).getETag());
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            boolean notModified = version.checkNotModified(new ServletWebRequest(request, response));
+
+            // then
+            assertThat(notModified).isFalse();
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+            assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(version.getETag());
+        }
+    }
+
+    @DisplayName("Last-Modified")
+    @Nested
+    class lastModified {
+
+        @DisplayName("If-Modified-Since 이후로 수정되지 않았으면 304 로 응답한다")
+        @Test
+        void givenIfModifiedSince_whenNotModifiedSince_thenNotModified() {
+            // given
+            ResourceVersion version = ResourceVersion.of(modifiedAt, 1L, modifiedAt);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1");
+            request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, toMillis(modifiedAt));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            boolean notModified = version.checkNotModified(new ServletWebRequest(request, response));
+
+            // then
+            assertThat(notModified).isTrue();
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        }
+
+        @DisplayName("If-Modified-Since 이후에 수정되었으면 Last-Modified 와 함께 본문을 응답한다")
+        @Test
+        void givenIfModifiedSince_whenModifiedAfter_thenModified() {
+            // given
+            ResourceVersion version = ResourceVersion.of(modifiedAt, 1L, modifiedAt);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1");
+            request.addHeader(HttpHeaders.IF_MODIFIED_SINCE, toMillis(modifiedAt.minusMinutes(1)));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            boolean notModified = version.checkNotModified(new ServletWebRequest(request, response));
+
+            // then
+            assertThat(notModified).isFalse();
+            assertThat(response.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(toMillis(modifiedAt));
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
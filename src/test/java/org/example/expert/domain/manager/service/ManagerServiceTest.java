@@ -19,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -42,6 +43,8 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Nested
     class testSaveManager {
@@ -149,15 +152,11 @@ class ManagerServiceTest {
         public void manager_목록_조회에_성공한다() {
             // given
             long todoId = 1L;
-            User user = createUser();
-            Todo todo = createTodo(user);
-            ReflectionTestUtils.setField(todo, "id", todoId);
-
-            Manager mockManager = new Manager(todo.getUser(), todo);
-            List<Manager> managerList = List.of(mockManager);
+            ManagerResponse mockManager = new ManagerResponse(1L, 1L, "a@a.com");
+            List<ManagerResponse> managerList = List.of(mockManager);
 
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-            given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+            given(todoRepository.existsById(todoId)).willReturn(true);
+            given(managerRepository.findResponsesByTodoId(todoId)).willReturn(managerList);
 
             // when
             List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
@@ -172,7 +171,7 @@ class ManagerServiceTest {
         public void manager_목록_조회_시_Todo가_없다면_InvalidRequestException_에러를_던진다() {
             // given
             long todoId = 1L;
-            given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+            given(todoRepository.existsById(todoId)).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> managerService.getManagers(todoId))
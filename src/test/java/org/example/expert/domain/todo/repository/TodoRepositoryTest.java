@@ -0,0 +1,131 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(PersistenceConfig.class)
+class TodoRepositoryTest {
+
+    @Autowired private TodoRepository todoRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @DisplayName("modifiedAt 이 같은 일정이 있어도 cursor 로 모든 일정을 중복과 누락 없이 순서대로 조회한다")
+    @Test
+    void givenSameModifiedAt_whenPageByCursor_thenVisitAllInOrder() {
+        // given
+        User user = userRepository.save(new User("user1@example.com", "password", UserRole.USER));
+        for (int i = 0; i < 7; i++) {
+            todoRepository.save(new Todo("title" + i, "contents", "Sunny", user));
+        }
+        // 앞의 4건과 뒤의 3건이 각각 같은 modifiedAt 을 갖도록 맞춤
+        LocalDateTime older = LocalDateTime.of(2024, 3, 10, 12, 0);
+        LocalDateTime newer = older.plusMinutes(1);
+        entityManager.createQuery("UPDATE Todo t SET t.modifiedAt = CASE WHEN t.title IN ('title0', 'title1', 'title2', 'title3') THEN :older ELSE :newer END")
+                .setParameter("older", older)
+                .setParameter("newer", newer)
+                .executeUpdate();
+        entityManager.clear();
+
+        // when
+        List<String> visited = new ArrayList<>();
+        List<TodoResponse> page = todoRepository.findFirstPage(Limit.of(3));
+        while (!page.isEmpty()) {
+            page.forEach(todo -> visited.add(todo.getTitle()));
+            TodoResponse last = page.get(page.size() - 1);
+            page = todoRepository.findPageAfter(last.getModifiedAt(), last.getId(), Limit.of(3));
+        }
+
+        // then
+        assertThat(visited).containsExactly("title6", "title5", "title4", "title3", "title2", "title1", "title0");
+    }
+
+    @DisplayName("여러 일정을 저장하면 일정과 담당자 insert 가 건별이 아닌 JDBC batch 로 전송된다")
+    @Test
+    void givenManyTodos_whenSaveAll_thenInsertedInBatches() {
+        // given
+        User user = userRepository.saveAndFlush(new User("user1@example.com", "password", UserRole.USER));
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            todos.add(new Todo("title" + i, "contents", "Sunny", user));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        todoRepository.saveAll(todos);
+        entityManager.flush();
+
+        // then
+        // 일정 100건 + 담당자 100건: batch 가 없으면 insert 만 200번, 있으면 batch 4번 + sequence 조회 몇 번
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(200);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+    }
+
+    @DisplayName("댓글이 추가되면 일정의 수정 시각이 같아도 버전이 바뀐다")
+    @Test
+    void givenNewComment_whenFindVersion_thenCommentPartChanged() {
+        // given
+        User user = userRepository.save(new User("user1@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+        entityManager.flush();
+        TodoVersion before = todoRepository.findVersionById(todo.getId()).orElseThrow();
+
+        // when
+        entityManager.persist(new Comment("comment", user, todo));
+        entityManager.flush();
+        TodoVersion after = todoRepository.findVersionById(todo.getId()).orElseThrow();
+
+        // then
+        assertThat(before.getCommentCount()).isZero();
+        assertThat(before.getCommentModifiedAt()).isNull();
+        assertThat(before.getManagerCount()).isEqualTo(1);
+        assertThat(after.getModifiedAt()).isEqualTo(before.getModifiedAt());
+        assertThat(after.getCommentCount()).isEqualTo(1);
+        assertThat(after.getCommentModifiedAt()).isNotNull();
+    }
+
+    @DisplayName("날씨를 벌크 UPDATE 로 채우면 수정 시각도 갱신된다")
+    @Test
+    void givenPendingTodo_whenUpdatePendingWeather_thenModifiedAtUpdated() {
+        // given
+        User user = userRepository.save(new User("user1@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", null, user));
+        entityManager.flush();
+        LocalDateTime older = LocalDateTime.of(2024, 3, 10, 12, 0);
+        entityManager.createQuery("UPDATE Todo t SET t.modifiedAt = :older, " +
+                        "t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.PENDING")
+                .setParameter("older", older)
+                .executeUpdate();
+
+        // when
+        int updated = todoRepository.updatePendingWeather(List.of(todo.getId()), "Rainy");
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(todoRepository.findVersionById(todo.getId()).orElseThrow().getModifiedAt()).isAfter(older);
+    }
+}
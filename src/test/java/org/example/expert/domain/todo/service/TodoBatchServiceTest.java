@@ -0,0 +1,230 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.config.TodoWeatherProperties;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({TodoBatchService.class, TodoWeatherProperties.class, PersistenceConfig.class,
+        JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // 서비스가 chunk 마다 직접 커밋하므로 테스트 트랜잭션을 열지 않음
+class TodoBatchServiceTest {
+
+    @Autowired private TodoBatchService todoBatchService;
+    @Autowired private TodoRepository todoRepository;
+    @Autowired private ManagerRepository managerRepository;
+    @Autowired private UserRepository userRepository;
+
+    @MockBean private WeatherClient weatherClient;
+
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        managerRepository.deleteAll();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+        User user = userRepository.save(new User("user1@example.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+    }
+
+    @DisplayName("JSON 배열 저장")
+    @Nested
+    class jsonArray {
+
+        @DisplayName("유효한 항목은 저장되고 잘못된 항목은 사유가 남으며, 날씨는 날짜별로 한 번만 조회한다")
+        @Test
+        void givenMixedItems_whenSaveTodos_thenReportPerItem() throws Exception {
+            // given
+            LocalDate plannedDate = LocalDate.of(2024, 3, 10);
+            given(weatherClient.getTodayWeather()).willReturn("Sunny");
+            given(weatherClient.findWeather(plannedDate)).willReturn("Rainy");
+            String body = """
+                    [
+                      {"title": "title1", "contents": "contents1"},
+                      {"title": "", "contents": "contents2"},
+                      {"title": "title3", "contents": "contents3", "plannedDate": "2024-03-10"},
+                      {"title": "title4", "contents": "contents4"},
+                      {"title": "title5", "contents": "contents5", "plannedDate": "2024-03-10"}
+                    ]
+                    """;
+
+            // when
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long created = todoBatchService.saveTodos(authUser, toStream(body), MediaType.APPLICATION_JSON, out);
+
+            // then
+            assertThat(created).isEqualTo(4);
+            assertThat(out.toString(StandardCharsets.UTF_8).lines().toList())
+                    .hasSize(6)
+                    .satisfies(lines -> {
+                        assertThat(lines.get(0)).contains("\"index\":0", "\"status\":\"CREATED\"", "\"weatherStatus\":\"RESOLVED\"");
+                        assertThat(lines.get(1)).contains("\"index\":1", "\"status\":\"INVALID\"", "\"message\":\"title ");
+                        assertThat(lines.get(2)).contains("\"index\":2", "\"status\":\"CREATED\"");
+                        assertThat(lines.get(5)).isEqualTo("{\"completed\":true,\"created\":4,\"invalid\":1}");
+                    });
+
+            assertThat(todoRepository.findAll()).extracting(Todo::getTitle, Todo::getWeather).containsExactlyInAnyOrder(
+                    tuple("title1", "Sunny"),
+                    tuple("title3", "Rainy"),
+                    tuple("title4", "Sunny"),
+                    tuple("title5", "Rainy")
+            );
+            // 작성자가 담당자로 함께 저장됨
+            assertThat(managerRepository.count()).isEqualTo(4);
+            verify(weatherClient, times(1)).getTodayWeather();
+            verify(weatherClient, times(1)).findWeather(plannedDate);
+        }
+
+        @DisplayName("날씨를 가져오지 못하면 요청을 실패시키지 않고 PENDING 으로 저장한다")
+        @Test
+        void givenWeatherUnavailable_whenSaveTodos_thenPending() throws Exception {
+            // given
+            given(weatherClient.getTodayWeather()).willThrow(new ServerException("날씨 데이터가 없습니다."));
+            String body = "[{\"title\": \"title1\", \"contents\": \"contents1\"}]";
+
+            // when
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long created = todoBatchService.saveTodos(authUser, toStream(body), MediaType.APPLICATION_JSON, out);
+
+            // then
+            assertThat(created).isEqualTo(1);
+            assertThat(out.toString(StandardCharsets.UTF_8)).contains("\"weatherStatus\":\"PENDING\"");
+            assertThat(todoRepository.findAll()).extracting(Todo::getWeatherStatus).containsExactly(WeatherStatus.PENDING);
+        }
+
+        @DisplayName("날씨 데이터에 없는 예정일은 UNAVAILABLE 로 저장한다")
+        @Test
+        void givenPlannedDateMissingFromFeed_whenSaveTodos_thenUnavailable() throws Exception {
+            // given
+            LocalDate plannedDate = LocalDate.of(2028, 2, 29);
+            given(weatherClient.findWeather(plannedDate)).willReturn(null);
+            String body = "[{\"title\": \"title1\", \"contents\": \"contents1\", \"plannedDate\": \"2028-02-29\"}]";
+
+            // when
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long created = todoBatchService.saveTodos(authUser, toStream(body), MediaType.APPLICATION_JSON, out);
+
+            // then
+            assertThat(created).isEqualTo(1);
+            assertThat(out.toString(StandardCharsets.UTF_8)).contains("\"weatherStatus\":\"UNAVAILABLE\"");
+            assertThat(todoRepository.findAll()).extracting(Todo::getWeatherStatus).containsExactly(WeatherStatus.UNAVAILABLE);
+        }
+    }
+
+    @DisplayName("NDJSON 저장")
+    @Nested
+    class ndjson {
+
+        @DisplayName("chunk 크기를 넘는 입력도 날씨는 한 번만 조회하고 chunk 마다 저장한다")
+        @Test
+        void givenMoreItemsThanChunkSize_whenSaveTodos_thenSingleWeatherLookup() throws Exception {
+            // given
+            given(weatherClient.getTodayWeather()).willReturn("Sunny");
+            int items = TodoBatchService.CHUNK_SIZE + 1;
+            StringBuilder body = new StringBuilder();
+            for (int i = 0; i < items; i++) {
+                body.append("{\"title\":\"title").append(i).append("\",\"contents\":\"contents\"}\n");
+            }
+            body.append("{not json}\n");
+
+            // when
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long created = todoBatchService.saveTodos(authUser, toStream(body.toString()), MediaType.APPLICATION_NDJSON, out);
+
+            // then
+            assertThat(created).isEqualTo(items);
+            assertThat(todoRepository.count()).isEqualTo(items);
+            assertThat(managerRepository.count()).isEqualTo(items);
+            assertThat(out.toString(StandardCharsets.UTF_8).lines().toList())
+                    .hasSize(items + 2)
+                    .satisfies(lines -> {
+                        assertThat(lines.get(items)).contains("\"status\":\"INVALID\"", "JSON 형식이 올바르지 않습니다.");
+                        assertThat(lines.get(items + 1)).contains("\"completed\":true");
+                    });
+            verify(weatherClient, times(1)).getTodayWeather();
+        }
+    }
+
+    @DisplayName("중간 실패")
+    @Nested
+    class failure {
+
+        @DisplayName("응답을 쓰기 시작한 뒤에 JSON 배열이 깨지면 저장한 곳까지 결과를 남기고 마지막 줄에 실패를 쓴다")
+        @Test
+        void givenMalformedJsonAfterFirstChunk_whenSaveTodos_thenTerminalFailureLine() throws Exception {
+            // given
+            given(weatherClient.getTodayWeather()).willReturn("Sunny");
+            StringBuilder body = new StringBuilder("[");
+            for (int i = 0; i < TodoBatchService.CHUNK_SIZE + 1; i++) {
+                body.append("{\"title\":\"title").append(i).append("\",\"contents\":\"contents\"},");
+            }
+            body.append("{broken");
+
+            // when
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long created = todoBatchService.saveTodos(authUser, toStream(body.toString()), MediaType.APPLICATION_JSON, out);
+
+            // then
+            assertThat(created).isEqualTo(TodoBatchService.CHUNK_SIZE);
+            assertThat(todoRepository.count()).isEqualTo(TodoBatchService.CHUNK_SIZE);
+            assertThat(out.toString(StandardCharsets.UTF_8).lines().toList())
+                    .hasSize(TodoBatchService.CHUNK_SIZE + 1)
+                    .last().asString().isEqualTo(
+                            "{\"completed\":false,\"created\":" + TodoBatchService.CHUNK_SIZE + ",\"invalid\":0,\"message\":\"JSON 형식이 올바르지 않습니다.\"}");
+        }
+
+        @DisplayName("응답을 쓰기 전에 실패하면 아무것도 쓰지 않고 예외를 던진다")
+        @Test
+        void givenMalformedJsonInFirstChunk_whenSaveTodos_thenThrowWithoutOutput() {
+            // given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when & then
+            assertThatThrownBy(() -> todoBatchService.saveTodos(
+                    authUser, toStream("[{\"title\":\"title\",\"contents\":\"contents\"},{broken"), MediaType.APPLICATION_JSON, out))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThat(out.size()).isZero();
+            assertThat(todoRepository.count()).isZero();
+        }
+    }
+
+    private static ByteArrayInputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,294 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.config.TodoEventProperties;
+import org.example.expert.domain.todo.enums.TodoChangeType;
+import org.example.expert.domain.todo.event.TodoChangeEvent;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class TodoChangeFeedTest {
+
+    // 전송 작업을 바로 실행하지 않고 모아 두었다가 테스트에서 실행
+    private final Queue<Runnable> sendTasks = new ArrayDeque<>();
+    private SimpleMeterRegistry meterRegistry;
+    private TodoChangeFeed todoChangeFeed;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        TodoEventProperties properties = new TodoEventProperties();
+        properties.setBufferSize(4);
+
+        meterRegistry = new SimpleMeterRegistry();
+        todoChangeFeed = new TodoChangeFeed(properties, new ObjectMapper(), meterRegistry, sendTasks::add);
+        mockMvc = MockMvcBuilders.standaloneSetup(new SubscribeController(todoChangeFeed)).build();
+    }
+
+    @DisplayName("이벤트 전달")
+    @Nested
+    class publish {
+
+        @DisplayName("todoIds 를 지정한 구독자는 해당 일정의 이벤트만 받는다")
+        @Test
+        void givenTodoIds_whenPublish_thenOnlyMatchingEventsSent() throws Exception {
+            // given
+            MvcResult result = subscribe(get("/events").param("todoIds", "1"));
+
+            // when
+            todoChangeFeed.publish(TodoChangeEvent.todo(TodoChangeType.UPDATED, 1L));
+            todoChangeFeed.publish(TodoChangeEvent.todo(TodoChangeType.UPDATED, 2L));
+            todoChangeFeed.publish(TodoChangeEvent.comment(TodoChangeType.CREATED, 1L, 10L));
+            runSendTasks();
+
+            // then
+            String body = result.getResponse().getContentAsString();
+            assertThat(body).contains("event:change\ndata:{\"target\":\"TODO\",\"type\":\"UPDATED\",\"todoId\":1}");
+            assertThat(body).contains("data:{\"target\":\"COMMENT\",\"type\":\"CREATED\",\"todoId\":1,\"targetId\":10}");
+            assertThat(body).doesNotContain("\"todoId\":2");
+        }
+
+        @DisplayName("버퍼가 넘친 구독자에게는 쌓인 이벤트 대신 resync 를 보내고 연결을 끊는다")
+        @Test
+        void givenSlowSubscriber_whenBufferFull_thenResyncAndDisconnect() throws Exception {
+            // given
+            MvcResult result = subscribe(get("/events"));
+
+            // when
+            for (long todoId = 1; todoId <= 10; todoId++) {
+                todoChangeFeed.publish(TodoChangeEvent.todo(TodoChangeType.CREATED, todoId));
+            }
+            runSendTasks();
+
+            // then
+            String body = result.getResponse().getContentAsString();
+            assertThat(body).contains("event:resync");
+            assertThat(body).doesNotContain("event:change");
+            assertThat(todoChangeFeed.getSubscriberCount()).isZero();
+            assertThat(meterRegistry.counter("todo.events.dropped_subscribers", "reason", "buffer_full").count()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("막힌 전송")
+    @Nested
+    class stalledSend {
+
+        private final BlockingWriteFilter blockingWriteFilter = new BlockingWriteFilter();
+        private ThreadPoolExecutor sender;
+
+        @BeforeEach
+        void setUp() {
+            TodoEventProperties properties = new TodoEventProperties();
+            properties.setSendTimeout(Duration.ofMillis(100));
+
+            // 전송 스레드 1개를 막힌 구독자가 점유하는 상황
+            sender = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+            todoChangeFeed = new TodoChangeFeed(properties, new ObjectMapper(), meterRegistry, sender);
+            mockMvc = MockMvcBuilders.standaloneSetup(new SubscribeController(todoChangeFeed))
+                    .addFilters(blockingWriteFilter)
+                    .build();
+        }
+
+        @AfterEach
+        void tearDown() {
+            blockingWriteFilter.unblock();
+            sender.shutdownNow();
+        }
+
+        @DisplayName("쓰기가 막힌 구독자를 끊고 스레드를 하나 더 띄워 다른 구독자에게 계속 전송한다")
+        @Test
+        void givenBlockedWrite_whenSendTimeoutElapsed_thenDropSubscriberAndKeepSending() throws Exception {
+            // given
+            subscribe(get("/events").header(BlockingWriteFilter.HEADER, "true"));
+            MvcResult healthy = subscribe(get("/events"));
+            // 연결 응답이 나간 뒤부터 막음
+            blockingWriteFilter.block();
+
+            // when
+            todoChangeFeed.publish(TodoChangeEvent.todo(TodoChangeType.UPDATED, 1L));
+
+            // then
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+                todoChangeFeed.checkStalledSends();
+                assertThat(healthy.getResponse().getContentAsString()).contains("event:change");
+            });
+            assertThat(todoChangeFeed.getSubscriberCount()).isEqualTo(1);
+            assertThat(meterRegistry.counter("todo.events.dropped_subscribers", "reason", "send_timeout").count()).isEqualTo(1);
+            assertThat(sender.getCorePoolSize()).isEqualTo(2);
+
+            // 막힌 쓰기가 끝나면 늘린 스레드를 다시 줄임
+            blockingWriteFilter.unblock();
+            await().atMost(Duration.ofSeconds(5)).until(() -> sender.getCorePoolSize() == 1);
+        }
+    }
+
+    @DisplayName("다시 연결")
+    @Nested
+    class reconnect {
+
+        @DisplayName("끊겨 있는 동안 이벤트가 있었으면 resync 부터 보낸다")
+        @Test
+        void givenMissedEvents_whenReconnect_thenResync() throws Exception {
+            // given
+            todoChangeFeed.publish(TodoChangeEvent.todo(TodoChangeType.CREATED, 1L));
+
+            // when
+            MvcResult result = subscribe(get("/events").header("Last-Event-ID", "0"));
+            runSendTasks();
+
+            // then
+            assertThat(result.getResponse().getContentAsString()).contains("id:1\nevent:resync");
+        }
+
+        @DisplayName("놓친 이벤트가 없으면 resync 를 보내지 않는다")
+        @Test
+        void givenNoMissedEvents_whenReconnect_thenNoResync() throws Exception {
+            // given
+            todoChangeFeed.publish(TodoChangeEvent.todo(TodoChangeType.CREATED, 1L));
+
+            // when
+            MvcResult result = subscribe(get("/events").header("Last-Event-ID", "1"));
+            runSendTasks();
+
+            // then
+            assertThat(result.getResponse().getContentAsString()).doesNotContain("event:resync");
+            assertThat(todoChangeFeed.getSubscriberCount()).isEqualTo(1);
+        }
+    }
+
+    private MvcResult subscribe(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+        return mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private void runSendTasks() {
+        Runnable task;
+        while ((task = sendTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    /**
+     * block() 이후 헤더가 있는 요청의 응답 쓰기를 unblock() 까지 막는다. (받지 않는 클라이언트 때문에 소켓 버퍼가 찬 상황)
+     */
+    static class BlockingWriteFilter extends OncePerRequestFilter {
+
+        static final String HEADER = "X-Block-Write";
+
+        private final CountDownLatch unblocked = new CountDownLatch(1);
+        private volatile boolean blocking;
+
+        void block() {
+            blocking = true;
+        }
+
+        void unblock() {
+            unblocked.countDown();
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            if (request.getHeader(HEADER) == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            ServletOutputStream out = response.getOutputStream();
+            ServletOutputStream blockingOut = new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    awaitUnblock();
+                    out.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    awaitUnblock();
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                }
+            };
+            filterChain.doFilter(request, new HttpServletResponseWrapper(response) {
+                @Override
+                public ServletOutputStream getOutputStream() {
+                    return blockingOut;
+                }
+            });
+        }
+
+        private void awaitUnblock() throws IOException {
+            if (!blocking) {
+                return;
+            }
+            try {
+                unblocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+    }
+
+    @RestController
+    static class SubscribeController {
+
+        private final TodoChangeFeed todoChangeFeed;
+
+        SubscribeController(TodoChangeFeed todoChangeFeed) {
+            this.todoChangeFeed = todoChangeFeed;
+        }
+
+        @GetMapping("/events")
+        SseEmitter subscribe(@RequestParam(required = false) Set<Long> todoIds,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+            return todoChangeFeed.subscribe(1L, todoIds != null ? todoIds : Set.of(), lastEventId);
+        }
+    }
+}
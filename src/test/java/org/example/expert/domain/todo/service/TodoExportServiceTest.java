@@ -0,0 +1,77 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TodoExportService.class, PersistenceConfig.class, JacksonAutoConfiguration.class})
+class TodoExportServiceTest {
+
+    @Autowired private TodoExportService todoExportService;
+    @Autowired private TodoRepository todoRepository;
+    @Autowired private UserRepository userRepository;
+
+    private Todo first;
+    private Todo second;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("user1@example.com", "password", UserRole.USER));
+        first = todoRepository.save(new Todo("title1", "contents, with \"quote\"", "Sunny", user));
+        second = todoRepository.save(new Todo("title2", "contents2", null, user));
+        Todo deleted = todoRepository.save(new Todo("deleted", "contents", "Sunny", user));
+        deleted.delete(LocalDateTime.now());
+        todoRepository.flush();
+    }
+
+    @DisplayName("CSV 는 헤더 다음에 id 순으로 한 줄씩 쓰고, 구분자나 큰따옴표가 있는 값은 감싼다")
+    @Test
+    void givenTodos_whenExportCsv_thenWriteEscapedRows() throws Exception {
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = todoExportService.export(TodoExportFormat.CSV, out);
+
+        // then
+        assertThat(exported).isEqualTo(2);
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo(TodoExportService.CSV_HEADER);
+        assertThat(lines.get(1)).startsWith(first.getId() + ",title1,\"contents, with \"\"quote\"\"\",Sunny,RESOLVED,,user1@example.com,");
+        assertThat(lines.get(2)).startsWith(second.getId() + ",title2,contents2,,PENDING,,user1@example.com,");
+    }
+
+    @DisplayName("NDJSON 은 삭제된 일정을 제외하고 한 줄에 일정 하나씩 쓴다")
+    @Test
+    void givenTodos_whenExportNdjson_thenOneRowPerLine() throws Exception {
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = todoExportService.export(TodoExportFormat.NDJSON, out);
+
+        // then
+        assertThat(exported).isEqualTo(2);
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("{\"id\":" + first.getId() + ",\"title\":\"title1\"")
+                .contains("\"userEmail\":\"user1@example.com\"");
+        assertThat(lines.get(1)).contains("\"title\":\"title2\"", "\"weatherStatus\":\"PENDING\"");
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.config.TodoPurgeProperties;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({TodoPurgeService.class, TodoPurgeProperties.class, PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // chunk 마다 커밋되는지 확인하므로 테스트 트랜잭션을 열지 않음
+class TodoPurgeServiceTest {
+
+    @Autowired private TodoPurgeService todoPurgeService;
+    @Autowired private TodoPurgeProperties todoPurgeProperties;
+    @Autowired private TodoRepository todoRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private ManagerRepository managerRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private Todo deleted;
+    private Todo alive;
+
+    @BeforeEach
+    void setUp() {
+        // JPQL 삭제는 삭제된 일정을 건너뛰므로 native query 로 비움
+        transactionTemplate.executeWithoutResult(status -> {
+            commentRepository.deleteAllInBatch();
+            managerRepository.deleteAllInBatch();
+            entityManager.createNativeQuery("DELETE FROM todos").executeUpdate();
+            userRepository.deleteAllInBatch();
+        });
+
+        User user = userRepository.save(new User("user1@example.com", "password", UserRole.USER));
+        deleted = todoRepository.save(new Todo("deleted", "contents", "Sunny", user));
+        alive = todoRepository.save(new Todo("alive", "contents", "Sunny", user));
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            comments.add(new Comment("comment" + i, user, deleted));
+        }
+        comments.add(new Comment("comment", user, alive));
+        commentRepository.saveAll(comments);
+
+        transactionTemplate.executeWithoutResult(status ->
+                todoRepository.findById(deleted.getId()).orElseThrow().delete(LocalDateTime.now()));
+
+        todoPurgeProperties.setChunkSize(2);
+        todoPurgeProperties.setScanSize(100);
+        todoPurgeProperties.setMaxChunksPerRun(2);
+    }
+
+    @DisplayName("삭제된 일정은 댓글과 담당자가 정리되기 전에도 조회되지 않는다")
+    @Test
+    void givenSoftDeletedTodo_whenFind_thenHidden() {
+        // when & then
+        assertThat(todoRepository.findById(deleted.getId())).isEmpty();
+        assertThat(todoRepository.existsById(deleted.getId())).isFalse();
+        assertThat(todoRepository.findFirstPage(Limit.of(10))).extracting("title").containsExactly("alive");
+        assertThat(todoRepository.findDeletedIds(10)).containsExactly(deleted.getId());
+    }
+
+    @DisplayName("한 번에 maxChunksPerRun 번까지만 지우고, 다음 실행에서 이어서 정리한 뒤 일정 행을 지운다")
+    @Test
+    void givenManyComments_whenPurge_thenDeletedInChunksAcrossRuns() {
+        // when
+        int firstRun = todoPurgeService.purge();
+
+        // then: chunk 2개 = 댓글 4건만 지워지고 일정은 남음
+        assertThat(firstRun).isZero();
+        assertThat(commentRepository.findIdsByTodoId(deleted.getId(), Limit.of(10))).hasSize(1);
+        assertThat(todoRepository.findDeletedIds(10)).containsExactly(deleted.getId());
+
+        // when: 남은 댓글 1건과 담당자 1건을 지우고 (chunk 크기보다 적게 지워졌으므로 다 지운 것) 일정 행을 지움
+        int secondRun = todoPurgeService.purge();
+
+        // then
+        assertThat(secondRun).isEqualTo(1);
+        assertThat(todoRepository.findDeletedIds(10)).isEmpty();
+        assertThat(managerRepository.findIdsByTodoId(deleted.getId(), Limit.of(10))).isEmpty();
+        assertThat(countTodoRows()).isEqualTo(1);
+        // 삭제되지 않은 일정의 댓글과 담당자는 그대로
+        assertThat(commentRepository.countByTodoIds(List.of(alive.getId()))).singleElement()
+                .satisfies(count -> assertThat(count.getCount()).isEqualTo(1));
+        assertThat(managerRepository.findIdsByTodoId(alive.getId(), Limit.of(10))).hasSize(1);
+    }
+
+    @DisplayName("한 번에 scanSize 건의 삭제된 일정만 조회하고, 나머지는 다음 실행에서 정리한다")
+    @Test
+    void givenScanSize_whenPurge_thenScanLimitedIndependentlyOfChunkSize() {
+        // given
+        User user = userRepository.findAll().get(0);
+        Todo another = todoRepository.save(new Todo("another", "contents", "Sunny", user));
+        transactionTemplate.executeWithoutResult(status ->
+                todoRepository.findById(another.getId()).orElseThrow().delete(LocalDateTime.now()));
+        todoPurgeProperties.setScanSize(1);
+        todoPurgeProperties.setMaxChunksPerRun(10);
+
+        // when
+        int firstRun = todoPurgeService.purge();
+
+        // then: DELETE 횟수는 남아도 조회한 1건만 정리
+        assertThat(firstRun).isEqualTo(1);
+        assertThat(todoRepository.findDeletedIds(10)).containsExactly(another.getId());
+
+        // when
+        int secondRun = todoPurgeService.purge();
+
+        // then
+        assertThat(secondRun).isEqualTo(1);
+        assertThat(todoRepository.findDeletedIds(10)).isEmpty();
+        assertThat(countTodoRows()).isEqualTo(1);
+    }
+
+    private long countTodoRows() {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM todos").getSingleResult()).longValue();
+    }
+}
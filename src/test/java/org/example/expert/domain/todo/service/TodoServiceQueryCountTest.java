@@ -0,0 +1,89 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.config.TodoWeatherProperties;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TodoService.class, TodoWeatherProperties.class, PersistenceConfig.class})
+class TodoServiceQueryCountTest {
+
+    private static final int TODO_COUNT = 30;
+
+    @Autowired private TodoService todoService;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @MockBean private WeatherClient weatherClient;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User("user1@example.com", "password", UserRole.USER);
+        entityManager.persist(user);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            Todo todo = new Todo("title" + i, "contents", "Sunny", user);
+            entityManager.persist(todo);
+            for (int j = 0; j < i % 3; j++) {
+                entityManager.persist(new Comment("comment" + j, user, todo));
+            }
+            // 작성자는 생성 시 담당자로 등록되므로 담당자는 일정마다 2명
+            entityManager.persist(new Manager(user, todo));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @DisplayName("페이지 크기와 관계없이 일정 목록 조회는 목록, count, 댓글 수, 담당자 수 쿼리 4번만 실행한다")
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void givenPageSize_whenGetTodos_thenFixedStatementCount(int size) {
+        // when
+        Page<TodoResponse> todos = todoService.getTodos(1, size);
+
+        // then
+        assertThat(todos.getContent()).hasSize(size);
+        assertThat(todos.getContent()).allSatisfy(todo -> assertThat(todo.getManagerCount()).isEqualTo(2));
+        assertThat(todos.getContent()).extracting(TodoResponse::getCommentCount).contains(0L, 1L, 2L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @DisplayName("페이지 크기와 관계없이 cursor 목록 조회는 목록, 댓글 수, 담당자 수 쿼리 3번만 실행한다")
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    void givenPageSize_whenGetTodosByCursor_thenFixedStatementCount(int size) {
+        // when
+        TodoCursorResponse todos = todoService.getTodos("", size);
+
+        // then
+        assertThat(todos.getContent()).hasSize(size);
+        assertThat(todos.getContent()).allSatisfy(todo -> assertThat(todo.getManagerCount()).isEqualTo(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
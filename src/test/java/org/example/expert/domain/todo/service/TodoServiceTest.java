@@ -1,34 +1,70 @@
 package org.example.expert.domain.todo.service;
 
 
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherProperties;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.config.TodoWeatherProperties;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoChildCount;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +74,10 @@ class TodoServiceTest {
 
     @Mock private TodoRepository todoRepository;
     @Mock private WeatherClient weatherClient;
+    @Mock private CommentRepository commentRepository;
+    @Mock private ManagerRepository managerRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Spy private TodoWeatherProperties todoWeatherProperties = new TodoWeatherProperties();
 
     @DisplayName("일정 저장 성공")
     @Test
@@ -60,24 +100,108 @@ class TodoServiceTest {
         assertThat(res.getUser().getId()).isEqualTo(1L);
         assertThat(res.getTitle()).isEqualTo("title");
         assertThat(res.getWeather()).isEqualTo(weather);
+        assertThat(res.getWeatherStatus()).isEqualTo(WeatherStatus.RESOLVED);
         verify(todoRepository).save(any(Todo.class));
     }
 
+    @DisplayName("DEFERRED 모드에서는 날씨를 조회하지 않고 PENDING 상태로 저장")
+    @Test
+    void givenDeferredMode_whenSaveTodo_thenSavePendingWithoutWeatherCall() {
+        // given
+        todoWeatherProperties.setMode(TodoWeatherProperties.Mode.DEFERRED);
+
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("title", "contents");
+
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoSaveResponse res = todoService.saveTodo(authUser, todoSaveRequest);
+
+        // then
+        assertThat(res.getWeather()).isNull();
+        assertThat(res.getWeatherStatus()).isEqualTo(WeatherStatus.PENDING);
+        verify(weatherClient, never()).getTodayWeather();
+    }
+
+    @DisplayName("예정일이 있으면 그 날짜의 날씨를 저장")
+    @Test
+    void givenPlannedDate_whenSaveTodo_thenSaveWeatherOfPlannedDate() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        LocalDate plannedDate = LocalDate.of(2024, 12, 25);
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("title", "contents", plannedDate);
+
+        given(weatherClient.findWeather(plannedDate)).willReturn("Snowy");
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoSaveResponse res = todoService.saveTodo(authUser, todoSaveRequest);
+
+        // then
+        assertThat(res.getWeather()).isEqualTo("Snowy");
+        assertThat(res.getWeatherStatus()).isEqualTo(WeatherStatus.RESOLVED);
+        assertThat(res.getPlannedDate()).isEqualTo(plannedDate);
+        verify(weatherClient, never()).getTodayWeather();
+    }
+
+    @DisplayName("예정일 날씨를 가져오지 못하면 PENDING 상태로 저장")
+    @Test
+    void givenPlannedDateWeatherUnavailable_whenSaveTodo_thenSavePending() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        LocalDate plannedDate = LocalDate.of(2024, 12, 25);
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("title", "contents", plannedDate);
+
+        given(weatherClient.findWeather(plannedDate)).willThrow(new ServerException("날씨 API 장애"));
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoSaveResponse res = todoService.saveTodo(authUser, todoSaveRequest);
+
+        // then
+        assertThat(res.getWeather()).isNull();
+        assertThat(res.getWeatherStatus()).isEqualTo(WeatherStatus.PENDING);
+    }
+
+    @DisplayName("날씨 데이터에 없는 예정일이면 UNAVAILABLE 상태로 저장")
+    @Test
+    void givenPlannedDateMissingFromFeed_whenSaveTodo_thenSaveUnavailable() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        LocalDate plannedDate = LocalDate.of(2028, 2, 29);
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("title", "contents", plannedDate);
+
+        given(weatherClient.findWeather(plannedDate)).willReturn(null);
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoSaveResponse res = todoService.saveTodo(authUser, todoSaveRequest);
+
+        // then
+        assertThat(res.getWeather()).isNull();
+        assertThat(res.getWeatherStatus()).isEqualTo(WeatherStatus.UNAVAILABLE);
+    }
+
     @DisplayName("일정 목록 조회")
     @Test
     void givenPageAndSize_whenFindAll_thenReturnOrderedTodoList() {
         // given
-        User user = new User("user1@example.com", "password", UserRole.USER);
         Pageable pageable = PageRequest.of(0, 10);
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 3, 10, 12, 0);
 
-        List<Todo> content = List.of(
-                new Todo("title1", "contents", "Squalls", user),
-                new Todo("title2", "contents", "Squalls", user),
-                new Todo("title3", "contents", "Squalls", user)
+        List<TodoResponse> content = List.of(
+                createTodoResponse(3L, "title1", modifiedAt),
+                createTodoResponse(2L, "title2", modifiedAt),
+                createTodoResponse(1L, "title3", modifiedAt)
         );
-        PageImpl<Todo> todos = new PageImpl<>(content, pageable, 3);
+        PageImpl<TodoResponse> todos = new PageImpl<>(content, pageable, 3);
 
         given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(todos);
+        given(commentRepository.countByTodoIds(List.of(3L, 2L, 1L)))
+                .willReturn(List.of(childCount(3L, 5), childCount(1L, 1)));
+        given(managerRepository.countByTodoIds(List.of(3L, 2L, 1L)))
+                .willReturn(List.of(childCount(3L, 2), childCount(2L, 1), childCount(1L, 1)));
 
         // when
         Page<TodoResponse> todoResponses = todoService.getTodos(1, 10);
@@ -88,19 +212,112 @@ class TodoServiceTest {
         assertThat(resContent.size()).isEqualTo(3);
         assertThat(resContent.get(0).getTitle()).isEqualTo("title1");
         assertThat(resContent.get(2).getTitle()).isEqualTo("title3");
+        assertThat(resContent).extracting(TodoResponse::getCommentCount).containsExactly(5L, 0L, 1L);
+        assertThat(resContent).extracting(TodoResponse::getManagerCount).containsExactly(2L, 1L, 1L);
         verify(todoRepository).findAllByOrderByModifiedAtDesc(pageable);
     }
 
+    @DisplayName("일정 목록 cursor 조회")
+    @Nested
+    class getTodosByCursor {
+
+        @DisplayName("size 보다 많이 조회되면 마지막 일정 위치를 nextCursor 로 돌려준다")
+        @Test
+        void givenMoreThanSize_whenFirstPage_thenReturnNextCursor() {
+            // given
+            LocalDateTime modifiedAt = LocalDateTime.of(2024, 3, 10, 12, 0, 0, 123456000);
+            List<TodoResponse> todos = List.of(
+                    createTodoResponse(3L, "title3", modifiedAt),
+                    createTodoResponse(2L, "title2", modifiedAt),
+                    createTodoResponse(1L, "title1", modifiedAt.minusSeconds(1))
+            );
+
+            given(todoRepository.findFirstPage(Limit.of(3))).willReturn(todos);
+
+            // when
+            TodoCursorResponse response = todoService.getTodos("", 2);
+
+            // then
+            assertThat(response.getContent()).extracting(TodoResponse::getTitle).containsExactly("title3", "title2");
+            assertThat(response.isHasNext()).isTrue();
+
+            TodoCursor next = TodoCursor.decode(response.getNextCursor());
+            assertThat(next.getModifiedAt()).isEqualTo(modifiedAt);
+            assertThat(next.getId()).isEqualTo(2L);
+        }
+
+        @DisplayName("cursor 이후의 일정을 조회하고, 마지막 페이지이면 nextCursor 가 없다")
+        @Test
+        void givenCursor_whenLastPage_thenNoNextCursor() {
+            // given
+            LocalDateTime modifiedAt = LocalDateTime.of(2024, 3, 10, 12, 0);
+            String cursor = new TodoCursor(modifiedAt, 2L).encode();
+
+            given(todoRepository.findPageAfter(modifiedAt, 2L, Limit.of(3)))
+                    .willReturn(List.of(createTodoResponse(1L, "title1", modifiedAt)));
+
+            // when
+            TodoCursorResponse response = todoService.getTodos(cursor, 2);
+
+            // then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.getNextCursor()).isNull();
+            assertThat(response.isHasNext()).isFalse();
+        }
+
+        @DisplayName("cursor 형식이 올바르지 않으면 예외 발생")
+        @Test
+        void givenMalformedCursor_whenGetTodos_thenThrowInvalidRequestException() {
+            // when & then
+            assertThatThrownBy(() -> todoService.getTodos("not-a-cursor", 10))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("유효하지 않은 cursor 입니다.");
+        }
+    }
+
+    @DisplayName("일정 삭제")
+    @Nested
+    class deleteTodo {
+
+        @DisplayName("작성자가 삭제하면 삭제 상태로 바뀐다")
+        @Test
+        void givenOwner_whenDeleteTodo_thenSoftDeleted() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            Todo todo = new Todo("title", "contents", "Sunny", User.fromAuthUser(authUser));
+            given(todoRepository.findById(1L)).willReturn(Optional.of(todo));
+
+            // when
+            todoService.deleteTodo(authUser, 1L);
+
+            // then
+            assertThat(todo.getDeletedAt()).isNotNull();
+        }
+
+        @DisplayName("작성자가 아니면 예외 발생")
+        @Test
+        void givenOtherUser_whenDeleteTodo_thenThrowInvalidRequestException() {
+            // given
+            Todo todo = new Todo("title", "contents", "Sunny", User.fromAuthUser(new AuthUser(1L, "a@a.com", UserRole.USER)));
+            given(todoRepository.findById(1L)).willReturn(Optional.of(todo));
+
+            // when & then
+            assertThatThrownBy(() -> todoService.deleteTodo(new AuthUser(2L, "b@b.com", UserRole.USER), 1L))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessage("해당 일정을 만든 유저가 유효하지 않습니다.");
+            assertThat(todo.getDeletedAt()).isNull();
+        }
+    }
+
     @DisplayName("일정 단일 조회")
     @Test
     void givenTodoId_whenFindTodo_thenReturnTodoResponse() {
         // given
         long todoId = 1L;
 
-        User user = new User("user1@example.com", "password", UserRole.USER);
-        Todo todo = new Todo("title", "contents", "Squalls", user);
+        TodoResponse todo = createTodoResponse(todoId, "title", LocalDateTime.of(2024, 3, 10, 12, 0));
 
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo));
+        given(todoRepository.findResponseById(todoId)).willReturn(Optional.of(todo));
 
         // when
         TodoResponse response = todoService.getTodo(todoId);
@@ -116,7 +333,7 @@ class TodoServiceTest {
         // given
         long todoId = 1L;
 
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.empty());
+        given(todoRepository.findResponseById(todoId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> todoService.getTodo(todoId))
@@ -124,4 +341,112 @@ class TodoServiceTest {
                 .hasMessage("Todo not found");
     }
 
+    @DisplayName("동시 일정 저장")
+    @Nested
+    class concurrentSaveTodo {
+
+        private static final int CONCURRENCY = 32;
+
+        private final AtomicInteger upstreamCalls = new AtomicInteger();
+        // 외부 API 응답을 붙잡아 두어 모든 요청이 날씨 조회 중인 상태를 만듦
+        private final CountDownLatch releaseUpstream = new CountDownLatch(1);
+
+        private HttpServer stubServer;
+        private SimpleMeterRegistry meterRegistry;
+        private WeatherClient realWeatherClient;
+
+        @BeforeEach
+        void setUp() throws IOException {
+            stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            stubServer.setExecutor(Executors.newCachedThreadPool());
+            stubServer.createContext("/f-api/weather.json", exchange -> {
+                upstreamCalls.incrementAndGet();
+                try {
+                    releaseUpstream.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+                byte[] body = ("[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            });
+            stubServer.start();
+
+            WeatherProperties weatherProperties = new WeatherProperties();
+            weatherProperties.setBaseUrl("http://localhost:" + stubServer.getAddress().getPort());
+            weatherProperties.setReadTimeout(Duration.ofSeconds(10));
+            weatherProperties.getBulkhead().setMaxConcurrentCalls(1);
+            weatherProperties.getBulkhead().setMaxWait(Duration.ZERO);
+            meterRegistry = new SimpleMeterRegistry();
+            realWeatherClient = new WeatherClient(new RestTemplateBuilder(), weatherProperties, meterRegistry);
+        }
+
+        @AfterEach
+        void tearDown() {
+            releaseUpstream.countDown();
+            realWeatherClient.close();
+            stubServer.stop(0);
+        }
+
+        @DisplayName("날씨 스냅샷이 없을 때 동시에 일정을 저장해도 외부 API 는 한 번만 호출된다")
+        @Test
+        void givenConcurrentSaveTodo_whenSnapshotMissing_thenSingleUpstreamCall() throws Exception {
+            // given: 외부 API 호출은 실제 WeatherClient 로 하고 나머지 의존성은 mock 을 그대로 사용
+            TodoService service = new TodoService(todoRepository, realWeatherClient, todoWeatherProperties,
+                    commentRepository, managerRepository, eventPublisher);
+            given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            CountDownLatch startGate = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+            List<Future<TodoSaveResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    return service.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+                }));
+            }
+
+            // when: 첫 요청의 외부 API 호출이 끝나지 않은 동안 나머지 요청이 모두 합류한 뒤 응답을 보냄
+            startGate.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() ->
+                    meterRegistry.get("weather.snapshot.coalesced").functionCounter().count() == CONCURRENCY - 1);
+            releaseUpstream.countDown();
+
+            // then
+            for (Future<TodoSaveResponse> future : futures) {
+                TodoSaveResponse response = future.get(5, TimeUnit.SECONDS);
+                assertThat(response.getWeather()).isEqualTo("Sunny");
+                assertThat(response.getWeatherStatus()).isEqualTo(WeatherStatus.RESOLVED);
+            }
+            executor.shutdown();
+
+            assertThat(upstreamCalls.get()).isEqualTo(1);
+            assertThat(meterRegistry.counter("weather.upstream.rejections", "reason", "bulkhead_full").count()).isZero();
+            verify(todoRepository, times(CONCURRENCY)).save(any(Todo.class));
+        }
+    }
+
+    private static TodoResponse createTodoResponse(Long id, String title, LocalDateTime modifiedAt) {
+        return new TodoResponse(id, title, "contents", "Sunny", WeatherStatus.RESOLVED, null,
+                1L, "user1@example.com", modifiedAt, modifiedAt);
+    }
+
+    private static TodoChildCount childCount(Long todoId, long count) {
+        return new TodoChildCount() {
+            @Override
+            public Long getTodoId() {
+                return todoId;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
 }
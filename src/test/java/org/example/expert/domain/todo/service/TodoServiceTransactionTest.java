@@ -0,0 +1,64 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.config.TodoWeatherProperties;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+// 실제 요청에서도 같은 상태가 되려면 OSIV 가 꺼져 있어야 함 (application.yml 의 spring.jpa.open-in-view, ExpertApplicationTests 에서 확인)
+@DataJpaTest
+@Import({TodoService.class, TodoWeatherProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // 테스트 자체가 트랜잭션을 열지 않도록 함
+class TodoServiceTransactionTest {
+
+    @Autowired private TodoService todoService;
+    @Autowired private TodoRepository todoRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private DataSource dataSource;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @MockBean private WeatherClient weatherClient;
+
+    @DisplayName("날씨 API 를 호출하는 동안에는 트랜잭션과 DB 커넥션을 점유하지 않는다")
+    @Test
+    void givenSlowWeatherApi_whenSaveTodo_thenNoConnectionHeldDuringRemoteCall() {
+        // given
+        User user = userRepository.save(new User("user1@example.com", "password", UserRole.USER));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+
+        given(weatherClient.getTodayWeather()).willAnswer(invocation -> {
+            // 원격 호출이 진행 중인 시점의 트랜잭션/커넥션 상태를 검증
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+            assertThat(TransactionSynchronizationManager.hasResource(dataSource)).isFalse();
+            assertThat(TransactionSynchronizationManager.hasResource(entityManagerFactory)).isFalse();
+            return "Sunny";
+        });
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+
+        // then
+        assertThat(response.getWeather()).isEqualTo("Sunny");
+        assertThat(todoRepository.findById(response.getId())).isPresent();
+    }
+}
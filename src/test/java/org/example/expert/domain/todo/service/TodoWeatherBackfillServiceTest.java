@@ -0,0 +1,156 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.config.TodoWeatherProperties;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.event.TodoChangeEvent;
+import org.example.expert.domain.todo.repository.PendingWeatherTodo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherBackfillServiceTest {
+
+    @Mock private TodoRepository todoRepository;
+    @Mock private WeatherClient weatherClient;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private final TodoWeatherProperties todoWeatherProperties = new TodoWeatherProperties();
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-10T00:00:00Z"), ZoneId.of("UTC"));
+
+    private TodoWeatherBackfillService backfillService;
+
+    @BeforeEach
+    void setUp() {
+        backfillService = new TodoWeatherBackfillService(todoRepository, weatherClient, todoWeatherProperties, eventPublisher, clock);
+    }
+
+    @DisplayName("PENDING 일정을 날씨 기준 날짜별로 묶어 날짜마다 한 번씩 날씨를 채운다")
+    @Test
+    void givenPendingTodos_whenBackfill_thenUpdateOncePerWeatherDate() {
+        // given
+        List<PendingWeatherTodo> pendingTodos = List.of(
+                pendingTodo(1L, LocalDateTime.of(2024, 3, 9, 10, 0)),
+                pendingTodo(2L, LocalDateTime.of(2024, 3, 10, 9, 0)),
+                pendingTodo(3L, LocalDateTime.of(2024, 3, 9, 23, 59)),
+                // 예정일이 있으면 생성일 대신 예정일 기준으로 묶음
+                pendingTodo(4L, LocalDate.of(2024, 3, 9), LocalDateTime.of(2024, 3, 10, 8, 0))
+        );
+        given(todoRepository.findByWeatherStatus(any(WeatherStatus.class), any())).willReturn(pendingTodos);
+        given(weatherClient.findWeather(LocalDate.of(2024, 3, 9))).willReturn("Rainy");
+        given(weatherClient.findWeather(LocalDate.of(2024, 3, 10))).willReturn("Sunny");
+        given(todoRepository.updatePendingWeather(List.of(1L, 3L, 4L), "Rainy")).willReturn(3);
+        given(todoRepository.updatePendingWeather(List.of(2L), "Sunny")).willReturn(1);
+
+        // when
+        int resolved = backfillService.backfill();
+
+        // then
+        assertThat(resolved).isEqualTo(4);
+        verify(todoRepository).updatePendingWeather(List.of(1L, 3L, 4L), "Rainy");
+        verify(todoRepository).updatePendingWeather(List.of(2L), "Sunny");
+        verify(eventPublisher, times(4)).publishEvent(any(TodoChangeEvent.class));
+    }
+
+    @DisplayName("날씨 조회에 실패하면 백오프 시간 동안 다시 시도하지 않는다")
+    @Test
+    void givenWeatherFailure_whenBackfillPeriodically_thenSkipUntilBackoffElapsed() {
+        // given
+        given(todoRepository.findByWeatherStatus(any(WeatherStatus.class), any()))
+                .willReturn(List.of(pendingTodo(1L, LocalDateTime.of(2024, 3, 10, 9, 0))));
+        given(weatherClient.findWeather(any(LocalDate.class))).willThrow(new ServerException("날씨 API 장애"));
+
+        // when
+        backfillService.backfillPeriodically();
+        backfillService.backfillPeriodically();
+
+        // then
+        assertThat(backfillService.getConsecutiveFailures()).isEqualTo(1);
+        verify(weatherClient, times(1)).findWeather(any(LocalDate.class));
+        verify(todoRepository, never()).updatePendingWeather(any(), any());
+    }
+
+    @DisplayName("한 날짜의 날씨 조회가 실패해도 나머지 날짜는 계속 채운다")
+    @Test
+    void givenFirstDateFails_whenBackfillPeriodically_thenContinueWithOtherDates() {
+        // given
+        given(todoRepository.findByWeatherStatus(any(WeatherStatus.class), any())).willReturn(List.of(
+                pendingTodo(1L, LocalDateTime.of(2024, 3, 9, 10, 0)),
+                pendingTodo(2L, LocalDateTime.of(2024, 3, 10, 9, 0))
+        ));
+        given(weatherClient.findWeather(LocalDate.of(2024, 3, 9))).willThrow(new ServerException("날씨 API 장애"));
+        given(weatherClient.findWeather(LocalDate.of(2024, 3, 10))).willReturn("Sunny");
+        given(todoRepository.updatePendingWeather(List.of(2L), "Sunny")).willReturn(1);
+
+        // when
+        backfillService.backfillPeriodically();
+
+        // then
+        assertThat(backfillService.getConsecutiveFailures()).isZero();
+        verify(todoRepository).updatePendingWeather(List.of(2L), "Sunny");
+        verify(todoRepository, never()).updatePendingWeather(eq(List.of(1L)), any());
+    }
+
+    @DisplayName("날씨 데이터에 없는 날짜의 일정은 UNAVAILABLE 로 바꿔 다음 배치에서 제외한다")
+    @Test
+    void givenDateMissingFromFeed_whenBackfill_thenMarkUnavailable() {
+        // given
+        given(todoRepository.findByWeatherStatus(any(WeatherStatus.class), any())).willReturn(List.of(
+                pendingTodo(1L, LocalDate.of(2028, 2, 29), LocalDateTime.of(2024, 3, 10, 9, 0))
+        ));
+        given(weatherClient.findWeather(LocalDate.of(2028, 2, 29))).willReturn(null);
+
+        // when
+        int resolved = backfillService.backfill();
+
+        // then
+        assertThat(resolved).isZero();
+        verify(todoRepository).markPendingWeatherUnavailable(List.of(1L));
+        verify(todoRepository, never()).updatePendingWeather(any(), any());
+    }
+
+    private PendingWeatherTodo pendingTodo(Long id, LocalDateTime createdAt) {
+        return pendingTodo(id, null, createdAt);
+    }
+
+    private PendingWeatherTodo pendingTodo(Long id, LocalDate plannedDate, LocalDateTime createdAt) {
+        return new PendingWeatherTodo() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDate getPlannedDate() {
+                return plannedDate;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class EmailBloomFilterTest {
+
+    @Mock private UserRepository userRepository;
+
+    private EmailBloomFilter emailBloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        emailBloomFilter = new EmailBloomFilter(userRepository, 10_000, 0.01, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("초기화 전에는 모든 이메일을 있을 수도 있다고 판단한다")
+    @Test
+    void givenNotLoaded_whenMightContain_thenTrue() {
+        assertThat(emailBloomFilter.mightContain("new@example.com")).isTrue();
+    }
+
+    @DisplayName("가입된 이메일은 항상 있을 수도 있다고 판단한다 (false negative 없음)")
+    @Test
+    void givenLoadedEmails_whenMightContain_thenNoFalseNegative() {
+        // given
+        given(userRepository.streamAllEmails()).willReturn(IntStream.range(0, 5_000).mapToObj(i -> "user" + i + "@example.com"));
+
+        // when
+        emailBloomFilter.load();
+
+        // then
+        assertThat(IntStream.range(0, 5_000).allMatch(i -> emailBloomFilter.mightContain("user" + i + "@example.com"))).isTrue();
+        assertThat(emailBloomFilter.mightContain("USER1@EXAMPLE.COM")).isTrue();
+    }
+
+    @DisplayName("가입되지 않은 이메일은 대부분 DB 조회 없이 새 이메일로 판단한다")
+    @Test
+    void givenLoadedEmails_whenMightContainNewEmails_thenLowFalsePositiveRate() {
+        // given
+        given(userRepository.streamAllEmails()).willReturn(Stream.of("user1@example.com"));
+        emailBloomFilter.load();
+
+        // when
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> emailBloomFilter.mightContain("new" + i + "@example.com"))
+                .count();
+
+        // then
+        assertThat(falsePositives).isLessThan(100);
+    }
+}
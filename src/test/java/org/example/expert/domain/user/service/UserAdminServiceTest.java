@@ -1,5 +1,6 @@
 package org.example.expert.domain.user.service;
 
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
@@ -27,6 +28,8 @@ class UserAdminServiceTest {
     @InjectMocks private UserAdminService userAdminService;
     
     @Mock private UserRepository userRepository;
+    @Mock private UserRoleCache userRoleCache;
+    @Mock private TokenRevocationService tokenRevocationService;
     
     @DisplayName("유저 권한 변경")
     @Nested
@@ -48,6 +51,8 @@ class UserAdminServiceTest {
 
             // then
             assertThat(user.getUserRole()).isEqualTo(UserRole.ADMIN);
+            verify(userRoleCache).invalidate(userId);
+            verify(tokenRevocationService).revokeAll(userId);
         }
 
         @DisplayName("대상 유저가 존재하지 않는다면 예외 발생")
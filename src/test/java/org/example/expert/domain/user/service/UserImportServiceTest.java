@@ -0,0 +1,169 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({UserImportService.class, JacksonAutoConfiguration.class, PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // 서비스가 chunk 마다 직접 커밋하므로 테스트 트랜잭션을 열지 않음
+class UserImportServiceTest {
+
+    @Autowired private UserImportService userImportService;
+    @Autowired private UserRepository userRepository;
+
+    @MockBean private PasswordEncoder passwordEncoder;
+    @MockBean private EmailBloomFilter emailBloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+        given(passwordEncoder.encodeAll(anyList())).willAnswer(invocation -> {
+            List<String> rawPasswords = invocation.getArgument(0);
+            return rawPasswords.stream().map(raw -> "encoded-" + raw).toList();
+        });
+    }
+
+    @DisplayName("CSV 가져오기")
+    @Nested
+    class csv {
+
+        @DisplayName("유효한 행은 가입되고, 중복과 잘못된 행은 결과에 사유가 남는다")
+        @Test
+        void givenMixedRows_whenImport_thenReportPerLine() throws Exception {
+            // given
+            userRepository.save(new User("exists@example.com", "password", UserRole.USER));
+            String body = """
+                    email,password,userRole
+                    new1@example.com,pw1,USER
+                    "new2@example.com","p,w""2",ADMIN
+                    exists@example.com,pw3,USER
+                    new1@example.com,pw4,USER
+                    invalid,pw5,USER
+                    new3@example.com,pw6,OWNER
+                    """;
+
+            // when
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long created = userImportService.importUsers(toStream(body), UserImportService.TEXT_CSV, out);
+
+            // then
+            assertThat(created).isEqualTo(2);
+            assertThat(out.toString(StandardCharsets.UTF_8).lines().toList()).containsExactly(
+                    "{\"line\":2,\"email\":\"new1@example.com\",\"status\":\"CREATED\"}",
+                    "{\"line\":3,\"email\":\"new2@example.com\",\"status\":\"CREATED\"}",
+                    "{\"line\":4,\"email\":\"exists@example.com\",\"status\":\"DUPLICATE\",\"message\":\"이미 존재하는 이메일입니다.\"}",
+                    "{\"line\":5,\"email\":\"new1@example.com\",\"status\":\"DUPLICATE\",\"message\":\"파일 안에 같은 이메일이 있습니다.\"}",
+                    "{\"line\":6,\"email\":\"invalid\",\"status\":\"INVALID\",\"message\":\"이메일 형식이 올바르지 않습니다.\"}",
+                    "{\"line\":7,\"email\":\"new3@example.com\",\"status\":\"INVALID\",\"message\":\"유효하지 않은 UerRole\"}"
+            );
+
+            User imported = userRepository.findByEmail("new2@example.com").orElseThrow();
+            assertThat(imported.getPassword()).isEqualTo("encoded-p,w\"2");
+            assertThat(imported.getUserRole()).isEqualTo(UserRole.ADMIN);
+            assertThat(imported.getCreatedAt()).isNotNull();
+            verify(emailBloomFilter).put("new1@example.com");
+            verify(emailBloomFilter).put("new2@example.com");
+        }
+    }
+
+    @DisplayName("저장 실패")
+    @Nested
+    class failure {
+
+        @DisplayName("중복 이메일이 아닌 제약 위반은 DUPLICATE 가 아닌 FAILED 로 응답하고 같은 chunk 의 다른 행은 저장한다")
+        @Test
+        void givenNonEmailViolation_whenImport_thenFailedWithCause() throws Exception {
+            // given: email 컬럼 길이(255)를 넘는 이메일
+            String tooLong = "a".repeat(300) + "@example.com";
+            String body = """
+                    email,password,userRole
+                    new1@example.com,pw1,USER
+                    %s,pw2,USER
+                    """.formatted(tooLong);
+
+            // when
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long created = userImportService.importUsers(toStream(body), UserImportService.TEXT_CSV, out);
+
+            // then
+            assertThat(created).isEqualTo(1);
+            assertThat(userRepository.count()).isEqualTo(1);
+            assertThat(out.toString(StandardCharsets.UTF_8).lines().toList()).containsExactly(
+                    "{\"line\":2,\"email\":\"new1@example.com\",\"status\":\"CREATED\"}",
+                    "{\"line\":3,\"email\":\"" + tooLong + "\",\"status\":\"FAILED\",\"message\":\"저장하지 못했습니다: 데이터 오류 (SQLState 22001)\"}"
+            );
+        }
+    }
+
+    @DisplayName("NDJSON 가져오기")
+    @Nested
+    class ndjson {
+
+        @DisplayName("chunk 크기를 넘는 입력은 chunk 마다 한 번씩 해시하고 저장한다")
+        @Test
+        void givenMoreRowsThanChunkSize_whenImport_thenProcessedInChunks() throws Exception {
+            // given
+            int rows = UserImportService.CHUNK_SIZE + 1;
+            StringBuilder body = new StringBuilder();
+            for (int i = 0; i < rows; i++) {
+                body.append("{\"email\":\"user").append(i).append("@example.com\",\"password\":\"pw\",\"userRole\":\"USER\"}\n");
+            }
+
+            // when
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long created = userImportService.importUsers(toStream(body.toString()), MediaType.APPLICATION_NDJSON, out);
+
+            // then
+            assertThat(created).isEqualTo(rows);
+            assertThat(userRepository.count()).isEqualTo(rows);
+            assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(rows);
+            verify(passwordEncoder, times(2)).encodeAll(anyList());
+        }
+
+        @DisplayName("JSON 으로 읽을 수 없는 행은 INVALID 로 응답한다")
+        @Test
+        void givenMalformedJson_whenImport_thenInvalid() throws Exception {
+            // given
+            String body = "{not json}\n";
+
+            // when
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            long created = userImportService.importUsers(toStream(body), MediaType.APPLICATION_NDJSON, out);
+
+            // then
+            assertThat(created).isZero();
+            assertThat(out.toString(StandardCharsets.UTF_8).trim())
+                    .isEqualTo("{\"line\":1,\"status\":\"INVALID\",\"message\":\"JSON 형식이 올바르지 않습니다.\"}");
+        }
+    }
+
+    private static ByteArrayInputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserRoleCacheTest {
+
+    @Mock private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserRoleCache userRoleCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userRoleCache = new UserRoleCache(userRepository, 100, meterRegistry);
+    }
+
+    @DisplayName("권한이 변경되면 캐시를 비우고 다음 요청에서 DB 의 권한을 다시 읽는다")
+    @Test
+    void givenCachedAdmin_whenInvalidate_thenReloadDemotedRole() {
+        // given
+        long userId = 1L;
+        given(userRepository.findUserRoleById(userId))
+                .willReturn(Optional.of(UserRole.ADMIN))
+                .willReturn(Optional.of(UserRole.USER));
+        assertThat(userRoleCache.isAdmin(userId)).isTrue();
+        assertThat(userRoleCache.isAdmin(userId)).isTrue();
+
+        // when
+        userRoleCache.invalidate(userId);
+
+        // then
+        assertThat(userRoleCache.isAdmin(userId)).isFalse();
+        verify(userRepository, times(2)).findUserRoleById(userId);
+        assertThat(meterRegistry.counter("user.role.cache.requests", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @DisplayName("DB 조회 중에 권한이 변경되면 조회한 값을 캐시에 넣지 않는다")
+    @Test
+    void givenInvalidateDuringLoad_whenGetRole_thenDoNotCacheStaleRole() {
+        // given
+        long userId = 1L;
+        given(userRepository.findUserRoleById(userId)).willAnswer(invocation -> {
+            userRoleCache.invalidate(userId);
+            return Optional.of(UserRole.ADMIN);
+        });
+
+        // when
+        userRoleCache.getRole(userId);
+        userRoleCache.getRole(userId);
+
+        // then
+        verify(userRepository, times(2)).findUserRoleById(userId);
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.domain.user.service;
 
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
@@ -33,6 +34,7 @@ class UserServiceTest {
 
     @Mock UserRepository userRepository;
     @Mock PasswordEncoder passwordEncoder;
+    @Mock TokenRevocationService tokenRevocationService;
 
     @DisplayName("유저 조회")
     @Nested
@@ -84,7 +86,6 @@ class UserServiceTest {
             UserChangePasswordRequest request = createUserChangePasswordRequest();
 
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(passwordEncoder.matches(request.getNewPassword(), user.getPassword())).willReturn(false);
             given(passwordEncoder.matches(request.getOldPassword(), user.getPassword())).willReturn(true);
             given(passwordEncoder.encode(request.getNewPassword())).willReturn("new_password");
 
@@ -93,6 +94,8 @@ class UserServiceTest {
 
             // then
             assertThat(user.getPassword()).isEqualTo("new_password");
+            verify(passwordEncoder, times(1)).matches(any(), any());
+            verify(tokenRevocationService).revokeAll(userId);
         }
 
         @DisplayName("새 비밀번호가 기존 비밀번호와 같을 경우 예외 발생")
@@ -101,10 +104,10 @@ class UserServiceTest {
             // given
             long userId = 1L;
             User user = createUser();
-            UserChangePasswordRequest request = createUserChangePasswordRequest();
+            UserChangePasswordRequest request = new UserChangePasswordRequest("old_password", "old_password");
 
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(passwordEncoder.matches(request.getNewPassword(), user.getPassword())).willReturn(true);
+            given(passwordEncoder.matches(request.getOldPassword(), user.getPassword())).willReturn(true);
 
             // when & then
             assertThatThrownBy(() -> userService.changePassword(userId, request))
@@ -121,7 +124,6 @@ class UserServiceTest {
             UserChangePasswordRequest request = createUserChangePasswordRequest();
 
             given(userRepository.findById(userId)).willReturn(Optional.of(user));
-            given(passwordEncoder.matches(any(), any())).willReturn(false);
             given(passwordEncoder.matches(request.getOldPassword(), user.getPassword())).willReturn(false);
 
             // when & then